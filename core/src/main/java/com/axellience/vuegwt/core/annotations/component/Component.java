@@ -3,6 +3,9 @@ package com.axellience.vuegwt.core.annotations.component;
 import com.axellience.vuegwt.core.client.component.VueComponent;
 import com.axellience.vuegwt.core.client.component.options.CustomizeOptions;
 import com.axellience.vuegwt.core.client.directive.VueDirective;
+import com.axellience.vuegwt.core.client.scheduler.MountScheduler;
+import com.axellience.vuegwt.core.client.scheduler.RenderPriority;
+import com.axellience.vuegwt.core.client.scheduler.RenderScheduler;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -53,4 +56,36 @@ public @interface Component
      * @return true if has a html template, false otherwise
      */
     boolean hasTemplate() default true;
+
+    /**
+     * A flag to make the component functional.
+     * Functional components don't have instances, they are rendered from their props, slots and
+     * listeners only. They can't have data, computed properties, watchers or lifecycle hooks.
+     * @return true if the component is functional, false otherwise
+     */
+    boolean functional() default false;
+
+    /**
+     * The priority of the re-renders of the component.
+     * Components with a LOW or IDLE priority are not re-rendered on the next tick, their
+     * re-renders are spread across the next frames by the {@link RenderScheduler}.
+     * @return The render priority of the component
+     */
+    RenderPriority renderPriority() default RenderPriority.NORMAL;
+
+    /**
+     * Mount deep trees of this recursive component incrementally.
+     * Components deeper than the eager depth of the {@link MountScheduler} are mounted in chunks
+     * across the next frames instead of all at once.
+     * @return true if the component should be mounted incrementally, false otherwise
+     */
+    boolean incrementalMount() default false;
+
+    /**
+     * Compare all the props of the component shallowly, as if they were all immutable.
+     * When the parent re-renders and passes props with the same content, the component is not
+     * re-rendered.
+     * @return true if the props should be compared shallowly, false otherwise
+     */
+    boolean shallowCompareProps() default false;
 }
\ No newline at end of file
@@ -15,4 +15,13 @@ import static java.lang.annotation.RetentionPolicy.CLASS;
 public @interface Computed
 {
     String value() default "";
+
+    /**
+     * Whether the computed property is computed asynchronously.
+     * The method must then return a {@link elemental2.promise.Promise}. The computed property
+     * is null until the first Promise resolves, and then keeps its last resolved value while a
+     * new one is pending.
+     * @return true if the computed property is asynchronous
+     */
+    boolean async() default false;
 }
@@ -26,4 +26,12 @@ public @interface Prop
      * @return true if we should check the type, false otherwise. Default to false.
      */
     boolean checkType() default false;
+
+    /**
+     * Is the property value immutable.
+     * Immutable properties are compared shallowly when the parent re-renders: a new value with
+     * the same content as the current one doesn't trigger a re-render of the component.
+     * @return true if the property is immutable, false otherwise. Default to false.
+     */
+    boolean immutable() default false;
 }
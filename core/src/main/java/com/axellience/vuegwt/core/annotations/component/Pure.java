@@ -0,0 +1,22 @@
+package com.axellience.vuegwt.core.annotations.component;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Mark a method as pure: its result only depends on its parameters and on the reactive
+ * properties it reads.
+ * <br>
+ * Template expressions calling a pure method are cached like computed properties, per v-for loop
+ * variables values. They are only evaluated again when one of the reactive properties they read
+ * changes.
+ * @author Adrien Baron
+ */
+@Target(METHOD)
+@Retention(CLASS)
+public @interface Pure
+{
+}
@@ -7,7 +7,11 @@ import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
 
 /**
- * Mark a watcher for a property of the component data model
+ * Mark a watcher for a property of the component data model.
+ * The property can be a path to a nested property, like "filter.text".
+ * <br>
+ * Calls to the watcher can be delayed with a debounce or a throttle, for example when it runs
+ * expensive code and the property changes on each keystroke.
  * @author Adrien Baron
  */
 @Target(METHOD)
@@ -16,4 +20,22 @@ public @interface Watch
 {
     String value();
     boolean isDeep() default false;
+
+    /**
+     * Call the watcher with the initial value of the property when the Component is created.
+     * @return true if the watcher is immediate
+     */
+    boolean isImmediate() default false;
+
+    /**
+     * Only call the watcher once the property didn't change for the given delay.
+     * @return The delay in milliseconds, 0 to call the watcher right away
+     */
+    int debounceMs() default 0;
+
+    /**
+     * Call the watcher at most once for the given delay.
+     * @return The delay in milliseconds, 0 to call the watcher right away
+     */
+    int throttleMs() default 0;
 }
@@ -0,0 +1,24 @@
+package com.axellience.vuegwt.core.annotations.reactivity;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Exclude a Component field from the Component data.
+ * The field is still accessible from the template, but Vue won't observe its value. Changing the
+ * field value won't trigger a re-render of the Component.
+ * <br>
+ * When put on a class, all the Component fields of this type are excluded from data, and Vue
+ * never observes its instances, even when they are referenced from observed objects.
+ * This is useful for big read only data, that would be costly to observe.
+ * @author Adrien Baron
+ */
+@Target({ FIELD, TYPE })
+@Retention(CLASS)
+public @interface NotReactive
+{
+}
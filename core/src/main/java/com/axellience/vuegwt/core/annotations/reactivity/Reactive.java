@@ -0,0 +1,22 @@
+package com.axellience.vuegwt.core.annotations.reactivity;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Make a model class reactive at compile time.
+ * Reactive getters and setters are defined once on the class prototype for all the fields visible
+ * in JS (public fields of a JsType or fields with @JsProperty). Vue doesn't have to redefine the
+ * properties of each instance it observes.
+ * <br>
+ * Sub classes of a reactive class must also be annotated for their own fields to be reactive.
+ * @author Adrien Baron
+ */
+@Target(TYPE)
+@Retention(CLASS)
+public @interface Reactive
+{
+}
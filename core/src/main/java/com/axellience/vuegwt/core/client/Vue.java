@@ -83,9 +83,7 @@ public abstract class Vue
     @JsOverlay
     public static <T extends VueComponent> T attach(Element element, VueFactory<T> vueFactory)
     {
-        T vueInstance = vueFactory.create();
-        vueInstance.$mount(element);
-        return vueInstance;
+        return vueFactory.createAndMount(element);
     }
 
     /**
@@ -2,9 +2,15 @@ package com.axellience.vuegwt.core.client;
 
 import com.axellience.vuegwt.core.client.component.ComponentJavaConstructor;
 import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.observer.IngestionQueue;
 import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.core.client.observer.vuegwtobservers.CollectionObserver;
+import com.axellience.vuegwt.core.client.observer.vuegwtobservers.ImmutableCollectionObserver;
 import com.axellience.vuegwt.core.client.observer.vuegwtobservers.MapObserver;
+import com.axellience.vuegwt.core.client.observer.vuegwtobservers.ReactiveCollectionObserver;
+import com.axellience.vuegwt.core.client.observer.vuegwtobservers.ReactiveModelObserver;
+import com.axellience.vuegwt.core.client.tools.PureExpressionsCache;
+import com.axellience.vuegwt.core.client.tools.TemplateListenersCache;
 import com.axellience.vuegwt.core.client.vue.VueFactory;
 import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
 import elemental2.core.JsObject;
@@ -19,6 +25,9 @@ import javax.inject.Provider;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -50,7 +59,14 @@ public class VueGWT
         VueGWT.initWithoutVueLib();
     }
 
-    private static boolean isDevMode()
+    /**
+     * Return whether Vue GWT runs in development mode.
+     * This is known at compile time, based on the "vuegwt.environment" property, so GWT can remove
+     * development only code from production builds.
+     * @return true if in development mode, false otherwise
+     */
+    @JsIgnore
+    public static boolean isDevMode()
     {
         return "on".equals(System.getProperty("superdevmode", "off"))
             || "development".equals(System.getProperty("vuegwt.environment", "production"));
@@ -70,6 +86,15 @@ public class VueGWT
         // Register custom observers for Collection and Maps
         VueGWTObserverManager.get().registerVueGWTObserver(new CollectionObserver());
         VueGWTObserverManager.get().registerVueGWTObserver(new MapObserver());
+        // Registered last so it's checked before the method wrapping observers
+        VueGWTObserverManager.get().registerVueGWTObserver(new ReactiveCollectionObserver());
+        VueGWTObserverManager.get().registerVueGWTObserver(new ImmutableCollectionObserver());
+        VueGWTObserverManager.get().registerVueGWTObserver(new ReactiveModelObserver());
+
+        // Make cached template listeners and expressions available to all Components
+        JsPropertyMap vue = (JsPropertyMap) ((JsPropertyMap) DomGlobal.window).get("Vue");
+        TemplateListenersCache.register((JsPropertyMap) vue.get("prototype"));
+        PureExpressionsCache.register((JsPropertyMap) vue.get("prototype"));
 
         isReady = true;
 
@@ -79,6 +104,55 @@ public class VueGWT
         onReadyCallbacks.clear();
     }
 
+    /**
+     * Prevent Vue from observing the given object.
+     * Vue won't make its properties reactive, and won't observe the objects it references.
+     * Use it for big read only objects that would be costly to observe.
+     * @param object The object to freeze
+     * @param <T> The type of the object
+     * @return The frozen object
+     */
+    @JsIgnore
+    public static <T> T freeze(T object)
+    {
+        VueGWTObserverManager.get().freeze(object);
+        return object;
+    }
+
+    /**
+     * Create a queue to apply updates from a high frequency source once per animation frame.
+     * Pending updates with the same key are merged, the most recent one replacing the previous
+     * one.
+     * @param keyExtractor Return the key of an update
+     * @param applier Apply an update to the reactive models
+     * @param <K> The type of the keys of the updates
+     * @param <U> The type of the updates
+     * @return The created {@link IngestionQueue}
+     */
+    @JsIgnore
+    public static <K, U> IngestionQueue<K, U> createIngestionQueue(
+        Function<U, K> keyExtractor, Consumer<U> applier)
+    {
+        return createIngestionQueue(keyExtractor, (pendingUpdate, update) -> update, applier);
+    }
+
+    /**
+     * Create a queue to apply updates from a high frequency source once per animation frame.
+     * @param keyExtractor Return the key of an update
+     * @param merger Merge a pending update with a new update for the same key
+     * @param applier Apply an update to the reactive models
+     * @param <K> The type of the keys of the updates
+     * @param <U> The type of the updates
+     * @return The created {@link IngestionQueue}
+     */
+    @JsIgnore
+    public static <K, U> IngestionQueue<K, U> createIngestionQueue(
+        Function<U, K> keyExtractor, BinaryOperator<U> merger,
+        Consumer<U> applier)
+    {
+        return new IngestionQueue<>(keyExtractor, merger, applier);
+    }
+
     /**
      * Create a {@link Vue} instance for the given Vue Component Class.
      * You can then call $mount on it to mount the instance.
@@ -211,6 +285,16 @@ public class VueGWT
         onReadyCallbacks.push(callback);
     }
 
+    /**
+     * Return whether Vue GWT has been initialized.
+     * @return true if {@link #init()} or {@link #initWithoutVueLib()} has been called
+     */
+    @JsIgnore
+    public static boolean isReady()
+    {
+        return isReady;
+    }
+
     public static boolean isVueLibInjected()
     {
         return ((JsPropertyMap) DomGlobal.window).get("Vue") != null;
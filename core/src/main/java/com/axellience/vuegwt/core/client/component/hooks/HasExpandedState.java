@@ -0,0 +1,21 @@
+package com.axellience.vuegwt.core.client.component.hooks;
+
+import com.axellience.vuegwt.core.client.scheduler.MountScheduler;
+import jsinterop.annotations.JsMethod;
+
+/**
+ * Implemented by Components mounted with incremental mount that can be collapsed.
+ * While a Component is collapsed, the {@link MountScheduler} doesn't mount its nested incremental
+ * Components. They are mounted incrementally once it's expanded.
+ * @author Adrien Baron
+ */
+public interface HasExpandedState
+{
+    /**
+     * Return whether the children of this Component are visible. This should read reactive
+     * properties, so the mount starts when it changes.
+     * @return true if expanded, false if collapsed
+     */
+    @JsMethod
+    boolean isExpanded();
+}
@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.core.client.component.hooks;
+
+import com.axellience.vuegwt.core.client.vue.VueFactory;
+import jsinterop.annotations.JsMethod;
+
+/**
+ * Called when an instance is released to the pool of its {@link VueFactory}, before being reused.
+ * Only instances of Components implementing it are pooled.
+ * <br>
+ * Data fields are reset shallowly: objects are not copied, and a List modified in place keeps its
+ * changes. Use it to reset those objects and the state that is not in the data fields.
+ * @author Adrien Baron
+ */
+public interface HasRecycle
+{
+    @JsMethod
+    void recycle();
+}
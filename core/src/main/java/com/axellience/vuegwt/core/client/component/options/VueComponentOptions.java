@@ -1,12 +1,20 @@
 package com.axellience.vuegwt.core.client.component.options;
 
+import com.axellience.vuegwt.core.client.VueGWT;
 import com.axellience.vuegwt.core.client.component.ComponentJavaPrototype;
 import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.options.computed.AsyncComputed;
 import com.axellience.vuegwt.core.client.component.options.computed.ComputedKind;
 import com.axellience.vuegwt.core.client.component.options.computed.ComputedOptions;
 import com.axellience.vuegwt.core.client.component.options.data.DataFactory;
+import com.axellience.vuegwt.core.client.component.options.data.InstanceDataFactory;
 import com.axellience.vuegwt.core.client.component.options.props.PropOptions;
+import com.axellience.vuegwt.core.client.component.options.props.ShallowComparedProps;
 import com.axellience.vuegwt.core.client.directive.options.VueDirectiveOptions;
+import com.axellience.vuegwt.core.client.scheduler.MountScheduler;
+import com.axellience.vuegwt.core.client.scheduler.RenderPriority;
+import com.axellience.vuegwt.core.client.scheduler.RenderScheduler;
+import com.axellience.vuegwt.core.client.tools.VueGWTTools;
 import elemental2.core.Function;
 import elemental2.core.JsArray;
 import elemental2.core.JsObject;
@@ -37,9 +45,13 @@ import static elemental2.core.Global.JSON;
 @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
 public class VueComponentOptions<T extends VueComponent> extends JsObject implements JsPropertyMap
 {
+    @JsOverlay private static final String INITIAL_DATA = "vuegwt$initialData";
+
     private ComponentJavaPrototype<T> componentJavaPrototype;
     private Map<String, Provider<?>> dependenciesProvider;
     private JsPropertyMap dataFields;
+    private DataFactory initialDataFactory;
+    private boolean isDataResetEnabled;
 
     /**
      * Set the Java Prototype on this {@link VueComponentOptions}.
@@ -83,6 +95,48 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
         this.setStaticRenderFns(Js.cast(staticRenderFnsStrings));
     }
 
+    /**
+     * Make this Component a functional Component.
+     * Functional Components don't have instances, their render function is called with a
+     * render context built from the props, slots and listeners.
+     * This must be called after the render function has been set.
+     */
+    @JsOverlay
+    public final void initFunctional()
+    {
+        this.set("functional", true);
+        // Ask Vue.js to expose $options, $slots and $scopedSlots in the render context
+        this.set("_compiled", true);
+        this.setRender(VueGWTTools.createFunctionalRenderFunction(getRender(),
+            componentJavaPrototype));
+    }
+
+    /**
+     * Set the priority of the re-renders of this Component.
+     * Re-renders of Components with a LOW or IDLE priority are spread across frames by the
+     * {@link RenderScheduler}.
+     * @param renderPriority The priority of the re-renders
+     */
+    @JsOverlay
+    public final void setRenderPriority(RenderPriority renderPriority)
+    {
+        if (renderPriority != RenderPriority.NORMAL)
+            addMixin(RenderScheduler.createMixin(renderPriority));
+    }
+
+    /**
+     * Mount deep trees of this recursive Component incrementally.
+     * Instances deeper than the eager depth are mounted across frames by the
+     * {@link MountScheduler}.
+     * @param incrementalMount true to mount this Component incrementally
+     */
+    @JsOverlay
+    public final void setIncrementalMount(boolean incrementalMount)
+    {
+        if (incrementalMount)
+            addMixin(MountScheduler.createMixin());
+    }
+
     /**
      * Initialise the data structure, then set it to either a Factory or directly on the Component.
      * @param useFactory Boolean representing whether or not to use a Factory.
@@ -105,7 +159,8 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
         if (useFactory)
         {
             String dataFieldsJSON = JSON.stringify(dataFields);
-            this.setData((DataFactory) () -> (JsPropertyMap) JSON.parse(dataFieldsJSON));
+            initialDataFactory = () -> (JsPropertyMap) JSON.parse(dataFieldsJSON);
+            this.setData(initialDataFactory);
         }
         else
         {
@@ -113,6 +168,101 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
         }
     }
 
+    /**
+     * Keep the initial values of the data fields of the instances created from now on, so they
+     * can be reset with {@link #resetData(VueComponent)}.
+     * For Components whose data is initialized by their Java constructor, this copies the values
+     * of the data fields for each instance, so it's only enabled for pooled Components.
+     */
+    @JsOverlay
+    public final void enableDataReset()
+    {
+        isDataResetEnabled = true;
+    }
+
+    /**
+     * Set the data fields of an instance back to their initial value.
+     * This is only possible if each instance has its own data object, and for Components whose
+     * data is initialized by their Java constructor, if the instance was created after
+     * {@link #enableDataReset()}. Objects are not copied: a List that was modified keeps its
+     * changes, which is why pooled Components must implement
+     * {@link com.axellience.vuegwt.core.client.component.hooks.HasRecycle}.
+     * @param instance The Component instance to reset
+     * @return true if the data was reset, false otherwise
+     */
+    @JsOverlay
+    public final boolean resetData(VueComponent instance)
+    {
+        JsPropertyMap instanceMap = (JsPropertyMap) instance;
+        JsPropertyMap initialData;
+        if (initialDataFactory != null)
+            initialData = (JsPropertyMap) initialDataFactory.getData();
+        else
+            initialData = (JsPropertyMap) instanceMap.get(INITIAL_DATA);
+
+        if (initialData == null)
+            return false;
+
+        initialData.forEach(fieldName -> instanceMap.set(fieldName, initialData.get(fieldName)));
+        return true;
+    }
+
+    /**
+     * Initialise the data structure from the values of the instance being created.
+     * This is used when the Java constructor has already been called on the instance before
+     * Vue.js initializes its data, field initializers are then only run once per instance.
+     * @param useFactory Boolean representing whether or not to use a Factory.
+     * @param fieldNames Name of the data fields in the object
+     */
+    @JsOverlay
+    public final void initInstanceData(boolean useFactory, String... fieldNames)
+    {
+        if (useFactory)
+        {
+            this.setData((InstanceDataFactory) instance -> {
+                // Keep the initial values to reset pooled instances
+                if (instance.$options().isDataResetEnabled)
+                {
+                    ((JsPropertyMap) instance).set(INITIAL_DATA,
+                        getInstanceDataFields(instance, fieldNames));
+                }
+
+                return getInstanceDataFields(instance, fieldNames);
+            });
+        }
+        else
+        {
+            this.setData((InstanceDataFactory) instance -> {
+                if (dataFields == null)
+                    dataFields = getInstanceDataFields(instance, fieldNames);
+
+                return dataFields;
+            });
+        }
+    }
+
+    /**
+     * Read the value of the data fields on a given Component instance.
+     * @param instance The Component instance to read the values from
+     * @param fieldNames Name of the data fields in the object
+     * @return An object with the data fields and their values
+     */
+    @JsOverlay
+    private JsPropertyMap getInstanceDataFields(VueComponent instance, String[] fieldNames)
+    {
+        JsPropertyMap instanceMap = (JsPropertyMap) instance;
+        JsPropertyMap instanceDataFields = JsPropertyMap.of();
+        for (String fieldName : fieldNames)
+        {
+            Object value = instanceMap.get(fieldName);
+            if (!Js.isTripleEqual(value, Js.undefined()))
+                instanceDataFields.set(fieldName, value);
+            else
+                instanceDataFields.set(fieldName, null);
+        }
+        return instanceDataFields;
+    }
+
     /**
      * Add a computed property to this ComponentOptions.
      * If the computed has both a getter and a setter, this will be called twice, once for each.
@@ -139,6 +289,26 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
             computedDefinition.set = method;
     }
 
+    /**
+     * Add an async computed property to this ComponentOptions.
+     * The Java method returns a Promise, the computed property has the value of the last
+     * resolved Promise.
+     * @param javaMethodName Name of the method in the {@link VueComponent}
+     * @param computedPropertyName Name of the computed property in the Template and the
+     * ComponentOptions
+     */
+    @JsOverlay
+    public final void addJavaAsyncComputed(String javaMethodName, String computedPropertyName)
+    {
+        addJavaComputed(javaMethodName,
+            AsyncComputed.getPromisePropertyName(computedPropertyName),
+            ComputedKind.GETTER);
+
+        ComputedOptions computedDefinition = new ComputedOptions();
+        computedDefinition.get = AsyncComputed.createGetter(computedPropertyName);
+        addComputedOptions(computedPropertyName, computedDefinition);
+    }
+
     /**
      * Add a watch property to this Component Definition
      * @param javaMethodName Name of the method in the {@link VueComponent}
@@ -149,14 +319,32 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
     public final void addJavaWatch(String javaMethodName, String watchedPropertyName,
         boolean isDeep)
     {
-        if (!isDeep)
+        addJavaWatch(javaMethodName, watchedPropertyName, isDeep, false);
+    }
+
+    /**
+     * Add a watch property to this Component Definition
+     * @param javaMethodName Name of the method in the {@link VueComponent}
+     * @param watchedPropertyName Name of the property name to watch in the data model, or a path
+     * to a nested property
+     * @param isDeep Is the watcher deep (will watch child properties)
+     * @param isImmediate Is the watcher called with the initial value of the property
+     */
+    @JsOverlay
+    public final void addJavaWatch(String javaMethodName, String watchedPropertyName,
+        boolean isDeep, boolean isImmediate)
+    {
+        if (!isDeep && !isImmediate)
         {
             addWatch(watchedPropertyName, getJavaComponentMethod(javaMethodName));
             return;
         }
 
         JsPropertyMap watchDefinition = JsPropertyMap.of();
-        watchDefinition.set("deep", true);
+        if (isDeep)
+            watchDefinition.set("deep", true);
+        if (isImmediate)
+            watchDefinition.set("immediate", true);
         watchDefinition.set("handler", getJavaComponentMethod(javaMethodName));
         addWatch(watchedPropertyName, watchDefinition);
     }
@@ -191,9 +379,24 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
         set(hookName, getJavaComponentMethod(javaMethodName));
     }
 
+    /**
+     * Compare the given props shallowly before updating them.
+     * New values that are shallowly equal to the current ones are ignored, so they don't
+     * trigger a re-render of the Component.
+     * @param propNames The names of the props
+     */
+    @JsOverlay
+    public final void addShallowComparedProps(String... propNames)
+    {
+        addMixin(VueGWTTools.createHookMixin("created",
+            vm -> ShallowComparedProps.wrapPropSetters(vm, propNames)));
+    }
+
     /**
      * Add a prop to our ComponentOptions.
      * This will allow to receive data from the outside of our Component.
+     * In production the required and type checks are not registered. The Boolean type is always
+     * kept, as Vue.js uses it to cast absent and empty attributes to false and true.
      * @param propName The name of the property
      * @param required Is the property required (mandatory)
      * @param jsTypeName JS name of the type of this property, if not null we will ask Vue to type
@@ -203,22 +406,28 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
     public final void addJavaProp(String propName, boolean required, String jsTypeName)
     {
         PropOptions propDefinition = new PropOptions();
-        propDefinition.required = required;
 
-        if (jsTypeName != null)
+        if (VueGWT.isDevMode())
+            propDefinition.required = required;
+
+        if (jsTypeName != null && (VueGWT.isDevMode() || "Boolean".equals(jsTypeName)))
             propDefinition.type = ((JsPropertyMap<Object>) DomGlobal.window).get(jsTypeName);
 
         addProp(propName, propDefinition);
     }
 
     /**
-     * Add a custom prop validator to validate a property
+     * Add a custom prop validator to validate a property.
+     * In production validators are not registered.
      * @param javaMethodName Name of the method in the {@link VueComponent}
      * @param propertyName The name of the property to validate
      */
     @JsOverlay
     public final void addJavaPropValidator(String javaMethodName, String propertyName)
     {
+        if (!VueGWT.isDevMode())
+            return;
+
         PropOptions propDefinition = (PropOptions) props.get(propertyName);
         propDefinition.validator = getJavaComponentMethod(javaMethodName);
     }
@@ -434,7 +643,20 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject implem
         if (this.watch == null)
             this.watch = JsPropertyMap.of();
 
-        this.watch.set(name, watcher);
+        // Vue accepts an array of watchers for a property, this way they don't replace each other
+        Object existingWatcher = this.watch.get(name);
+        if (existingWatcher == null)
+        {
+            this.watch.set(name, watcher);
+        }
+        else if (JsArray.isArray(existingWatcher))
+        {
+            ((JsArray<Object>) existingWatcher).push(watcher);
+        }
+        else
+        {
+            this.watch.set(name, new JsArray<>(existingWatcher, watcher));
+        }
         return this;
     }
 
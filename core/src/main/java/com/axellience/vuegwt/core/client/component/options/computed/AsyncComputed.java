@@ -0,0 +1,119 @@
+package com.axellience.vuegwt.core.client.component.options.computed;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import elemental2.core.Function;
+import elemental2.dom.DomGlobal;
+import elemental2.promise.Promise;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Support for computed properties computed asynchronously.
+ * <br>
+ * The Java method of an async computed property returns a {@link Promise}. It is registered as
+ * a hidden computed property, so Vue only calls it again when one of the reactive properties it
+ * reads changes. The visible computed property returns the value of the last resolved Promise,
+ * and is updated reactively each time a new one resolves.
+ * @author Adrien Baron
+ */
+public class AsyncComputed
+{
+    private static final String STATES_PROPERTY = "vuegwt$asyncComputed";
+
+    /**
+     * Return the name of the hidden computed property returning the Promise.
+     * @param computedPropertyName The name of the async computed property
+     * @return The name of the hidden computed property
+     */
+    public static String getPromisePropertyName(String computedPropertyName)
+    {
+        return "vuegwt$asyncPromise$" + computedPropertyName;
+    }
+
+    /**
+     * Create the getter of an async computed property.
+     * @param computedPropertyName The name of the async computed property
+     * @return A getter function for Vue.js
+     */
+    public static Object createGetter(String computedPropertyName)
+    {
+        String promisePropertyName = getPromisePropertyName(computedPropertyName);
+        ComputedGetter getter = vm -> getValue(vm, computedPropertyName, promisePropertyName);
+        return getter;
+    }
+
+    private static Object getValue(Object vm, String computedPropertyName,
+        String promisePropertyName)
+    {
+        JsPropertyMap<Object> vmMap = Js.cast(vm);
+        AsyncComputedState state = getState(vmMap, computedPropertyName);
+
+        // Reading the hidden computed property makes us depend on its dependencies
+        Promise<Object> promise = Js.cast(vmMap.get(promisePropertyName));
+        if (promise != state.promise)
+        {
+            state.promise = promise;
+            if (promise != null)
+                waitForValue(state, promise);
+        }
+
+        state.callDep("depend");
+        return state.value;
+    }
+
+    private static void waitForValue(AsyncComputedState state, Promise<Object> promise)
+    {
+        promise.then(value -> {
+            // Ignore results from outdated computations
+            if (state.promise == promise)
+            {
+                state.value = value;
+                state.callDep("notify");
+            }
+            return null;
+        }, error -> {
+            DomGlobal.console.error("Error in async computed property", error);
+            return null;
+        });
+    }
+
+    private static AsyncComputedState getState(JsPropertyMap<Object> vmMap,
+        String computedPropertyName)
+    {
+        JsPropertyMap<AsyncComputedState> states = Js.cast(vmMap.get(STATES_PROPERTY));
+        if (states == null)
+        {
+            states = Js.cast(JsPropertyMap.of());
+            vmMap.set(STATES_PROPERTY, states);
+        }
+
+        AsyncComputedState state = states.get(computedPropertyName);
+        if (state == null)
+        {
+            state = new AsyncComputedState();
+            states.set(computedPropertyName, state);
+        }
+        return state;
+    }
+
+    private static class AsyncComputedState
+    {
+        private final Object dep = VueGWTObserverManager.get().createVueDep();
+        private Promise<Object> promise;
+        private Object value;
+
+        private void callDep(String methodName)
+        {
+            JsPropertyMap<Object> depMap = Js.cast(dep);
+            ((Function) depMap.get(methodName)).call(dep);
+        }
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface ComputedGetter
+    {
+        Object get(Object vm);
+    }
+}
@@ -0,0 +1,17 @@
+package com.axellience.vuegwt.core.client.component.options.data;
+
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Functional interface used to build the data model of a Component from its instance.
+ * Vue.js passes the instance being created when calling the data function, this allows reading
+ * the values set by the Java constructor before the data become reactive.
+ * @author Adrien Baron
+ */
+@JsFunction
+@FunctionalInterface
+public interface InstanceDataFactory
+{
+    Object getData(VueComponent instance);
+}
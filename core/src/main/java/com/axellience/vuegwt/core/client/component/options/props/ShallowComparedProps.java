@@ -0,0 +1,143 @@
+package com.axellience.vuegwt.core.client.component.options.props;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.tools.ShallowEquality;
+import com.axellience.vuegwt.core.client.tools.VueGWTTools;
+import elemental2.core.Function;
+import elemental2.core.JsObject;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Ignore new values of props that are shallowly equal to their current value.
+ * <br>
+ * When a parent re-renders, Vue.js updates each of its children: it sets all their props again,
+ * and forces them to re-render if they have slot content. Props are only compared by reference,
+ * so a new JsArray or a new immutable object with the same content triggers a re-render of the
+ * child. For shallow compared props, we wrap the reactive setter of the prop, and keep the
+ * current value if the new one is shallowly equal.
+ * <br>
+ * The forced re-render for slot content is skipped when the parent passes the exact same slot
+ * VNodes, which is the case for static slot content. Slot content that depends on the parent
+ * state, and scoped slots, are new VNodes each time and still force the re-render.
+ * @author Adrien Baron
+ */
+public final class ShallowComparedProps
+{
+    private static final String SKIP_FORCED_UPDATE = "vuegwt$skipForcedUpdate";
+
+    private ShallowComparedProps()
+    {
+    }
+
+    /**
+     * Wrap the setters of the given props on a Component instance, and skip the forced re-render
+     * when its slot content didn't change.
+     * This must be called once the props are initialized, in the created hook.
+     * @param vm The Component instance
+     * @param propNames The names of the props to compare shallowly
+     */
+    public static void wrapPropSetters(Object vm, String[] propNames)
+    {
+        JsPropertyMap<Object> vmMap = Js.cast(vm);
+        JsPropertyMap<Object> props = Js.cast(vmMap.get("_props"));
+        if (props == null)
+            return;
+
+        for (String propName : propNames)
+        {
+            JsPropertyMap<Object> descriptor =
+                Js.cast(JsObject.getOwnPropertyDescriptor(props, propName));
+            if (descriptor == null || descriptor.get("set") == null)
+                continue;
+
+            // Track the value ourselves, reading it with the getter would register a dependency.
+            // It's initialized from the prop itself, as the propsData don't contain default
+            // values.
+            Object[] currentValue =
+                { VueGWTObserverManager.get().getWithoutDependency(props, propName) };
+            Function setter = Js.cast(descriptor.get("set"));
+            PropSetter shallowComparedSetter = newValue -> {
+                if (ShallowEquality.isShallowEqual(currentValue[0], newValue))
+                    return;
+
+                currentValue[0] = newValue;
+                setter.call(props, newValue);
+            };
+
+            descriptor.set("set", shallowComparedSetter);
+            JsObject.defineProperty(props, propName, Js.cast(descriptor));
+        }
+
+        skipForcedUpdateForSameSlots(vmMap);
+    }
+
+    /**
+     * Vue.js sets the new slot VNodes of the instance right before forcing its re-render. If they
+     * are the same as the previous ones, and there are no scoped slots, the next forced update is
+     * skipped.
+     * @param vm The Component instance
+     */
+    private static void skipForcedUpdateForSameSlots(JsPropertyMap<Object> vm)
+    {
+        JsPropertyMap<Object> options = Js.cast(vm.get("$options"));
+        Object[] renderChildren = { options.get("_renderChildren") };
+
+        JsPropertyMap<Object> childrenDescriptor = JsPropertyMap.of();
+        childrenDescriptor.set("get", VueGWTTools.getterWithThis(self -> renderChildren[0]));
+        childrenDescriptor.set("set", VueGWTTools.setterWithThis((self, newChildren) -> {
+            if ((renderChildren[0] != null || newChildren != null)
+                && ShallowEquality.isShallowEqual(renderChildren[0], newChildren)
+                && !hasScopedSlots(vm, options))
+            {
+                vm.set(SKIP_FORCED_UPDATE, true);
+            }
+            renderChildren[0] = newChildren;
+        }));
+        childrenDescriptor.set("configurable", true);
+        JsObject.defineProperty(options, "_renderChildren", Js.cast(childrenDescriptor));
+
+        // Shadow $forceUpdate of the Vue prototype
+        Function forceUpdate = Js.cast(vm.get("$forceUpdate"));
+        ForceUpdateFunction skippableForceUpdate = () -> {
+            if (Js.isTruthy(vm.get(SKIP_FORCED_UPDATE)))
+            {
+                vm.delete(SKIP_FORCED_UPDATE);
+                return;
+            }
+
+            forceUpdate.call(vm);
+        };
+        vm.set("$forceUpdate", skippableForceUpdate);
+    }
+
+    private static boolean hasScopedSlots(JsPropertyMap<Object> vm, JsPropertyMap<Object> options)
+    {
+        // Previous scoped slots, Vue.js also re-renders to remove them
+        Object scopedSlots = vm.get("$scopedSlots");
+        if (scopedSlots != null && JsObject.keys(scopedSlots).length > 0)
+            return true;
+
+        JsPropertyMap<Object> parentVnode = Js.cast(options.get("_parentVnode"));
+        if (parentVnode == null)
+            return false;
+
+        JsPropertyMap<Object> data = Js.cast(parentVnode.get("data"));
+        return data != null && data.get("scopedSlots") != null;
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface PropSetter
+    {
+        void set(Object value);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface ForceUpdateFunction
+    {
+        void forceUpdate();
+    }
+}
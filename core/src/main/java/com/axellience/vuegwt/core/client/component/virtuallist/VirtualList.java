@@ -0,0 +1,71 @@
+package com.axellience.vuegwt.core.client.component.virtuallist;
+
+import com.axellience.vuegwt.core.client.Vue;
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+/**
+ * A list that only renders its visible rows.
+ * <br>
+ * It takes a Java List or a JsArray as "items", and a row Component as "rowComponent". The row
+ * Component receives an "item" and an "index" prop. Only the visible rows, plus "overscan" rows
+ * above and below, are rendered. Row instances are recycled while scrolling: they get new props
+ * instead of being destroyed and created again.
+ * <br>
+ * Rows all have the same height, either given with "itemHeight" or measured on the first row.
+ * The list must have a fixed height, for example with CSS.
+ * @param <T> The type of the items
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public abstract class VirtualList<T> extends VueComponent
+{
+    /**
+     * Tag name of the list in templates, once registered with {@link #register()}.
+     */
+    @JsOverlay public static final String TAG_NAME = "virtual-list";
+
+    /**
+     * Register the list globally, so it can be used in all the templates as "virtual-list".
+     */
+    @JsOverlay
+    public static void register()
+    {
+        Vue.component(TAG_NAME, getJsConstructor());
+    }
+
+    /**
+     * Return the {@link VueJsConstructor} of the list, for example to register it locally or to
+     * use it in a render function.
+     * @param <T> The type of the items
+     * @return The {@link VueJsConstructor} of the list
+     */
+    @JsOverlay
+    public static <T> VueJsConstructor<VirtualList<T>> getJsConstructor()
+    {
+        return Js.cast(VirtualListDefinition.getJsConstructor());
+    }
+
+    /**
+     * Scroll the list so the item at the given index is the first visible one.
+     * @param index The index of the item
+     */
+    @JsOverlay
+    public final void scrollToIndex(int index)
+    {
+        VirtualListDefinition.scrollToIndex(this, index);
+    }
+
+    /**
+     * @return The index of the first visible item
+     */
+    @JsOverlay
+    public final int getFirstVisibleIndex()
+    {
+        return VirtualListDefinition.getFirstVisibleIndex(this);
+    }
+}
@@ -0,0 +1,242 @@
+package com.axellience.vuegwt.core.client.component.virtuallist;
+
+import com.axellience.vuegwt.core.client.Vue;
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.options.VueComponentOptions;
+import com.axellience.vuegwt.core.client.component.options.functions.OnEvent;
+import com.axellience.vuegwt.core.client.component.options.props.PropOptions;
+import com.axellience.vuegwt.core.client.vnode.VNodeData;
+import com.axellience.vuegwt.core.client.vnode.builder.CreateElementFunction;
+import com.axellience.vuegwt.core.client.vnode.builder.VNodeBuilder;
+import com.axellience.vuegwt.core.client.vue.VueFactory;
+import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
+import elemental2.core.JsArray;
+import elemental2.core.JsObject;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import java.util.List;
+
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.createHookMixin;
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.withThis;
+
+/**
+ * Options and render function of the {@link VirtualList}.
+ * <br>
+ * The list only reads the size of its items and its visible items when rendering. It depends on
+ * the observer of the items, so inserting or removing items re-renders the visible rows without
+ * copying the whole Collection.
+ * <br>
+ * Rows are keyed by their position in a pool of rows instead of by their index. When scrolling,
+ * the row that goes out of view gets the next item that comes into view, so Vue.js patches the
+ * existing row instance instead of creating a new one. Rows are still in the order of their
+ * index in the DOM, Vue.js moves the reused row element.
+ * @author Adrien Baron
+ */
+final class VirtualListDefinition
+{
+    private static final String ITEMS = "items";
+    private static final String ROW_COMPONENT = "rowComponent";
+    private static final String ITEM_HEIGHT = "itemHeight";
+    private static final String OVERSCAN = "overscan";
+
+    private static final String FIRST_VISIBLE_INDEX = "firstVisibleIndex";
+    private static final String VIEWPORT_HEIGHT = "viewportHeight";
+    private static final String MEASURED_ITEM_HEIGHT = "measuredItemHeight";
+    private static final String SCROLL_LISTENER = "vuegwt$scrollListener";
+
+    private static final double DEFAULT_OVERSCAN = 3;
+
+    private static VueJsConstructor<VueComponent> jsConstructor;
+
+    private VirtualListDefinition()
+    {
+    }
+
+    static VueJsConstructor<VueComponent> getJsConstructor()
+    {
+        if (jsConstructor == null)
+            jsConstructor = Vue.extend(createOptions());
+
+        return jsConstructor;
+    }
+
+    private static VueComponentOptions<VueComponent> createOptions()
+    {
+        VueComponentOptions<VueComponent> options = new VueComponentOptions<>();
+        options.setName("VirtualList");
+
+        options.addProp(ITEMS, createProp(true, null));
+        options.addProp(ROW_COMPONENT, createProp(true, null));
+        options.addProp(ITEM_HEIGHT, createProp(false, null));
+        options.addProp(OVERSCAN, createProp(false, DEFAULT_OVERSCAN));
+
+        options.setData(withThis((vm, args) -> {
+            JsPropertyMap<Object> data = Js.cast(new JsObject());
+            data.set(FIRST_VISIBLE_INDEX, 0d);
+            data.set(VIEWPORT_HEIGHT, 0d);
+            data.set(MEASURED_ITEM_HEIGHT, 0d);
+            return data;
+        }));
+        options.setRender(withThis((vm, args) -> render(Js.cast(vm),
+            Js.<CreateElementFunction>cast(args[0]))));
+        // Created once per instance, so the listener doesn't change with each render
+        options.addMixin(createHookMixin("created", vm -> {
+            JsPropertyMap<Object> vmMap = Js.cast(vm);
+            OnEvent scrollListener = event -> onScroll(vmMap);
+            vmMap.set(SCROLL_LISTENER, scrollListener);
+        }));
+        options.addMixin(createHookMixin("mounted", vm -> measure(Js.cast(vm))));
+        options.addMixin(createHookMixin("updated", vm -> measure(Js.cast(vm))));
+
+        return options;
+    }
+
+    private static PropOptions createProp(boolean required, Object defaultValue)
+    {
+        PropOptions propOptions = new PropOptions();
+        propOptions.required = required;
+        propOptions.defaultValue = defaultValue;
+        return propOptions;
+    }
+
+    private static Object render(JsPropertyMap<Object> vm, CreateElementFunction createElement)
+    {
+        VNodeBuilder builder = new VNodeBuilder(createElement);
+
+        Object items = vm.get(ITEMS);
+        int size = getSize(items);
+        double itemHeight = getItemHeight(vm);
+
+        int start = 0;
+        int end = Math.min(size, 1);
+        // Until the first row is measured, we only render it
+        if (itemHeight > 0)
+        {
+            int overscan = getInt(vm, OVERSCAN);
+            int firstVisibleIndex = getInt(vm, FIRST_VISIBLE_INDEX);
+            int visibleCount = (int) Math.ceil(getDouble(vm, VIEWPORT_HEIGHT) / itemHeight);
+            start = Math.max(0, Math.min(firstVisibleIndex, size) - overscan);
+            end = Math.min(size, firstVisibleIndex + visibleCount + overscan);
+        }
+
+        Object rowComponent = vm.get(ROW_COMPONENT);
+        if (rowComponent instanceof VueFactory)
+            rowComponent = ((VueFactory<?>) rowComponent).getJsConstructor();
+
+        // The item at a given index is shown by the row in slot index modulo the row count, so
+        // rows keep their slot when scrolling. They are emitted in index order.
+        int rowCount = end - start;
+        Object[] rows = new Object[rowCount];
+        for (int index = start; index < end; index++)
+        {
+            rows[index - start] =
+                builder.el(Js.<VueJsConstructor<VueComponent>>cast(rowComponent),
+                    createRowData(index % rowCount, index, getItem(items, index), itemHeight));
+        }
+
+        VNodeData spacerData = VNodeData.get()
+            .addStaticStyle("position", "relative")
+            .addStaticStyle("height", (size * itemHeight) + "px");
+
+        VNodeData rootData = VNodeData.get()
+            .addStaticStyle("overflow-y", "auto")
+            .on("scroll", Js.<OnEvent>cast(vm.get(SCROLL_LISTENER)));
+
+        return builder.el("div", rootData, builder.el("div", spacerData, rows));
+    }
+
+    private static VNodeData createRowData(int slot, int index, Object item, double itemHeight)
+    {
+        JsPropertyMap<Object> style = Js.cast(new JsObject());
+        style.set("position", "absolute");
+        style.set("top", "0");
+        style.set("left", "0");
+        style.set("right", "0");
+        style.set("transform", "translateY(" + (index * itemHeight) + "px)");
+
+        return VNodeData.get()
+            .setKey(slot)
+            .setStyle(style)
+            .prop("item", item)
+            .prop("index", (double) index);
+    }
+
+    private static void onScroll(JsPropertyMap<Object> vm)
+    {
+        Element element = ((VueComponent) Js.cast(vm)).$el();
+        vm.set(VIEWPORT_HEIGHT, (double) element.clientHeight);
+
+        double itemHeight = getItemHeight(vm);
+        // Vue.js ignores the new value if it didn't change, we only re-render on a new row
+        if (itemHeight > 0)
+            vm.set(FIRST_VISIBLE_INDEX, Math.floor(element.scrollTop / itemHeight));
+    }
+
+    private static void measure(JsPropertyMap<Object> vm)
+    {
+        Element element = ((VueComponent) Js.cast(vm)).$el();
+        vm.set(VIEWPORT_HEIGHT, (double) element.clientHeight);
+
+        if (vm.get(ITEM_HEIGHT) != null || getDouble(vm, MEASURED_ITEM_HEIGHT) > 0)
+            return;
+
+        // There is no row until there are items
+        Element spacer = element.firstElementChild;
+        if (spacer == null || spacer.firstElementChild == null)
+            return;
+
+        HTMLElement firstRow = Js.cast(spacer.firstElementChild);
+        vm.set(MEASURED_ITEM_HEIGHT, (double) firstRow.offsetHeight);
+    }
+
+    static void scrollToIndex(VueComponent virtualList, int index)
+    {
+        double itemHeight = getItemHeight(Js.cast(virtualList));
+        virtualList.$el().scrollTop = index * itemHeight;
+    }
+
+    static int getFirstVisibleIndex(VueComponent virtualList)
+    {
+        return getInt(Js.cast(virtualList), FIRST_VISIBLE_INDEX);
+    }
+
+    private static double getItemHeight(JsPropertyMap<Object> vm)
+    {
+        if (vm.get(ITEM_HEIGHT) != null)
+            return getDouble(vm, ITEM_HEIGHT);
+
+        return getDouble(vm, MEASURED_ITEM_HEIGHT);
+    }
+
+    private static int getSize(Object items)
+    {
+        if (items == null)
+            return 0;
+
+        if (items instanceof List)
+            return ((List<?>) items).size();
+
+        return Js.<JsArray<Object>>cast(items).length;
+    }
+
+    private static Object getItem(Object items, int index)
+    {
+        if (items instanceof List)
+            return ((List<?>) items).get(index);
+
+        return Js.<JsArray<Object>>cast(items).getAt(index);
+    }
+
+    private static double getDouble(JsPropertyMap<Object> vm, String property)
+    {
+        return Js.asDouble(vm.get(property));
+    }
+
+    private static int getInt(JsPropertyMap<Object> vm, String property)
+    {
+        return (int) getDouble(vm, property);
+    }
+}
@@ -0,0 +1,28 @@
+package com.axellience.vuegwt.core.client.jsnative.jstypes;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Java representation of the JavaScript Map.
+ * Keys are compared by identity for objects and by value for primitives.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Map")
+public class JsMap<K, V>
+{
+    @JsProperty public int size;
+
+    public native V get(K key);
+
+    public native JsMap<K, V> set(K key, V value);
+
+    public native boolean has(K key);
+
+    public native boolean delete(K key);
+
+    public native void clear();
+}
@@ -0,0 +1,23 @@
+package com.axellience.vuegwt.core.client.jsnative.jstypes;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * Java representation of the JavaScript WeakMap.
+ * Keys must be objects, they are held weakly and don't prevent garbage collection.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "WeakMap")
+public class JsWeakMap<K, V>
+{
+    public native V get(K key);
+
+    public native JsWeakMap<K, V> set(K key, V value);
+
+    public native boolean has(K key);
+
+    public native boolean delete(K key);
+}
@@ -0,0 +1,184 @@
+package com.axellience.vuegwt.core.client.observer;
+
+import elemental2.dom.DomGlobal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Queue updates from a high frequency source, like a WebSocket feed, and apply them once per
+ * animation frame.
+ * <br>
+ * Updates are merged by key: if an update arrives for a key that already has a pending update,
+ * both are merged into one. Pending updates are applied in one {@link
+ * VueGWTObserverManager#batch(Runnable)} on the next animation frame, so Vue is only notified
+ * once per frame for each changed Collection.
+ * <br>
+ * The queue keeps counters you can use to tune it: how many updates were merged, dropped
+ * because the queue was full, and applied.
+ * @param <K> The type of the keys of the updates
+ * @param <U> The type of the updates
+ * @author Adrien Baron
+ */
+public class IngestionQueue<K, U>
+{
+    private final Function<U, K> keyExtractor;
+    private final BinaryOperator<U> merger;
+    private final Consumer<U> applier;
+    private int maxQueueSize = Integer.MAX_VALUE;
+
+    private LinkedHashMap<K, U> pendingUpdates = new LinkedHashMap<>();
+    private boolean isFlushRequested = false;
+
+    private int mergedCount = 0;
+    private int droppedCount = 0;
+    private int appliedCount = 0;
+
+    /**
+     * Create a queue.
+     * @param keyExtractor Return the key of an update
+     * @param merger Merge a pending update with a new update for the same key
+     * @param applier Apply an update to the reactive models
+     */
+    public IngestionQueue(Function<U, K> keyExtractor, BinaryOperator<U> merger,
+        Consumer<U> applier)
+    {
+        this.keyExtractor = keyExtractor;
+        this.merger = merger;
+        this.applier = applier;
+    }
+
+    /**
+     * Add an update to the queue. It will be applied on the next animation frame.
+     * @param update The update to add
+     */
+    public void push(U update)
+    {
+        K key = keyExtractor.apply(update);
+        U pendingUpdate = pendingUpdates.get(key);
+        if (pendingUpdate != null)
+        {
+            pendingUpdates.put(key, merger.apply(pendingUpdate, update));
+            mergedCount++;
+            return;
+        }
+
+        // Drop the oldest updates when full, the max size may have been lowered since they were
+        // pushed
+        if (pendingUpdates.size() >= maxQueueSize)
+        {
+            Iterator<K> keysIterator = pendingUpdates.keySet().iterator();
+            do
+            {
+                keysIterator.next();
+                keysIterator.remove();
+                droppedCount++;
+            } while (pendingUpdates.size() >= maxQueueSize);
+        }
+
+        pendingUpdates.put(key, update);
+        requestFlush();
+    }
+
+    /**
+     * Apply all the pending updates now, in one batch.
+     */
+    public void flush()
+    {
+        if (pendingUpdates.isEmpty())
+            return;
+
+        Map<K, U> updates = pendingUpdates;
+        pendingUpdates = new LinkedHashMap<>();
+        VueGWTObserverManager.get().batch(() -> {
+            for (U update : updates.values())
+            {
+                applier.accept(update);
+                appliedCount++;
+            }
+        });
+    }
+
+    /**
+     * Remove all the pending updates without applying them.
+     */
+    public void clear()
+    {
+        droppedCount += pendingUpdates.size();
+        pendingUpdates.clear();
+    }
+
+    private void requestFlush()
+    {
+        if (isFlushRequested)
+            return;
+
+        isFlushRequested = true;
+        DomGlobal.requestAnimationFrame(timestamp -> {
+            isFlushRequested = false;
+            flush();
+        });
+    }
+
+    /**
+     * Set the maximum number of pending updates. When the queue is full, the oldest pending
+     * update is dropped to make room for new ones.
+     * @param maxQueueSize The maximum number of pending updates, at least 1, unlimited by default
+     */
+    public void setMaxQueueSize(int maxQueueSize)
+    {
+        if (maxQueueSize < 1)
+        {
+            throw new IllegalArgumentException("The max queue size must be at least 1, got: "
+                + maxQueueSize);
+        }
+
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * @return The number of updates waiting for the next animation frame
+     */
+    public int getQueueDepth()
+    {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * @return The number of updates merged with a pending update for the same key
+     */
+    public int getMergedCount()
+    {
+        return mergedCount;
+    }
+
+    /**
+     * @return The number of updates dropped because the queue was full or cleared
+     */
+    public int getDroppedCount()
+    {
+        return droppedCount;
+    }
+
+    /**
+     * @return The number of updates applied
+     */
+    public int getAppliedCount()
+    {
+        return appliedCount;
+    }
+
+    /**
+     * Reset the merged, dropped and applied counters.
+     */
+    public void resetCounts()
+    {
+        mergedCount = 0;
+        droppedCount = 0;
+        appliedCount = 0;
+    }
+}
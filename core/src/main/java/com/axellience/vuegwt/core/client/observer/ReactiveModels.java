@@ -0,0 +1,172 @@
+package com.axellience.vuegwt.core.client.observer;
+
+import com.axellience.vuegwt.core.annotations.reactivity.Reactive;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.core.JsObject;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.getterWithThis;
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.setterWithThis;
+
+/**
+ * Define reactive properties on the prototype of {@link Reactive} model classes.
+ * Each instance stores the values of its reactive fields in a single non enumerable object, and
+ * only creates the Vue Dep of a field the first time it is read by a watcher. Those values don't
+ * show up in Object.keys(), JSON or for in loops.
+ * <br>
+ * The accessors are plain JS functions reading "this", reading or writing a field outside of a
+ * watcher doesn't allocate anything.
+ * @author Adrien Baron
+ */
+public final class ReactiveModels
+{
+    private static final String REACTIVE_FIELDS = "vuegwt$reactiveFields";
+    private static final String VALUES = "vuegwt$values";
+    private static final String DEPS = "vuegwt$deps";
+
+    private ReactiveModels()
+    {
+    }
+
+    /**
+     * Define reactive properties on the prototype of the given class.
+     * This is called by the code generated for {@link Reactive} classes.
+     * @param modelClass The class to make reactive
+     * @param fieldNames The names of the fields to make reactive
+     */
+    public static void makeReactive(Class<?> modelClass, String... fieldNames)
+    {
+        JsObject prototype =
+            Js.cast(Js.asPropertyMap(Js.asConstructorFn(modelClass)).get("prototype"));
+
+        // Fields of the parent classes are inherited through the prototype chain
+        JsArray<String> parentFields = Js.cast(Js.asPropertyMap(prototype).get(REACTIVE_FIELDS));
+        JsArray<String> reactiveFields =
+            parentFields == null ? new JsArray<>() : parentFields.slice();
+        for (String fieldName : fieldNames)
+        {
+            reactiveFields.push(fieldName);
+            defineReactiveProperty(prototype, fieldName);
+        }
+        defineHiddenProperty(prototype, REACTIVE_FIELDS, reactiveFields);
+    }
+
+    private static void defineReactiveProperty(JsObject prototype, String fieldName)
+    {
+        Object defaultValue = Js.asPropertyMap(prototype).get(fieldName);
+
+        JsPropertyMap<Object> descriptor = JsPropertyMap.of();
+        descriptor.set("enumerable", true);
+        descriptor.set("configurable", true);
+        descriptor.set("get",
+            getterWithThis(self -> getValue(Js.cast(self), fieldName, defaultValue)));
+        descriptor.set("set",
+            setterWithThis((self, value) -> setValue(Js.cast(self),
+                fieldName,
+                defaultValue,
+                value)));
+        JsObject.defineProperty(prototype, fieldName, Js.cast(descriptor));
+    }
+
+    private static Object getValue(JsPropertyMap<Object> instance, String fieldName,
+        Object defaultValue)
+    {
+        JsPropertyMap<Object> values = Js.cast(instance.get(VALUES));
+        Object value =
+            values != null && values.has(fieldName) ? values.get(fieldName) : defaultValue;
+
+        VueGWTObserverManager observerManager = VueGWTObserverManager.get();
+        if (!observerManager.isCollectingDependencies())
+            return value;
+
+        // Deps are only created for the fields read by a watcher
+        JsPropertyMap<Object> deps = Js.cast(instance.get(DEPS));
+        if (deps == null)
+        {
+            deps = createEmptyMap();
+            defineHiddenProperty(instance, DEPS, deps);
+        }
+
+        Object dep = deps.get(fieldName);
+        if (dep == null)
+        {
+            dep = observerManager.createVueDep();
+            deps.set(fieldName, dep);
+        }
+        depend(dep);
+
+        if (value != null && "object".equals(Js.typeof(value)))
+        {
+            JsPropertyMap<Object> valueMap = Js.asPropertyMap(value);
+            if (valueMap.get("__ob__") == null)
+                observerManager.observe(value);
+
+            Object valueObserver = valueMap.get("__ob__");
+            if (valueObserver != null)
+                depend(Js.asPropertyMap(valueObserver).get("dep"));
+        }
+
+        return value;
+    }
+
+    private static void setValue(JsPropertyMap<Object> instance, String fieldName, Object defaultValue,
+        Object newValue)
+    {
+        JsPropertyMap<Object> values = Js.cast(instance.get(VALUES));
+        if (values == null)
+        {
+            values = createEmptyMap();
+            defineHiddenProperty(instance, VALUES, values);
+        }
+
+        Object value = values.has(fieldName) ? values.get(fieldName) : defaultValue;
+        values.set(fieldName, newValue);
+
+        if (Js.isTripleEqual(newValue, value) || (isNaN(newValue) && isNaN(value)))
+            return;
+
+        JsPropertyMap<Object> deps = Js.cast(instance.get(DEPS));
+        if (deps == null)
+            return;
+
+        Object dep = deps.get(fieldName);
+        if (dep != null)
+            ((Function) Js.asPropertyMap(dep).get("notify")).call(dep);
+    }
+
+    private static void depend(Object dep)
+    {
+        ((Function) Js.asPropertyMap(dep).get("depend")).call(dep);
+    }
+
+    private static boolean isNaN(Object value)
+    {
+        return "number".equals(Js.typeof(value)) && Double.isNaN(Js.asDouble(value));
+    }
+
+    /**
+     * Create an object without prototype, so field names like "constructor" are not found on it.
+     * @return An empty object
+     */
+    private static JsPropertyMap<Object> createEmptyMap()
+    {
+        return Js.cast(JsObject.create(null));
+    }
+
+    /**
+     * Define a property that doesn't show up in Object.keys(), JSON or for in loops.
+     * @param object The object to define the property on
+     * @param name The name of the property
+     * @param value The value of the property
+     */
+    private static void defineHiddenProperty(Object object, String name, Object value)
+    {
+        JsPropertyMap<Object> descriptor = JsPropertyMap.of();
+        descriptor.set("value", value);
+        descriptor.set("writable", true);
+        descriptor.set("configurable", true);
+        JsObject.defineProperty(object, name, Js.cast(descriptor));
+    }
+}
@@ -6,4 +6,15 @@ package com.axellience.vuegwt.core.client.observer;
 public abstract class VueGWTObserver
 {
     public abstract boolean observe(Object object);
+
+    /**
+     * Return whether this observer decides to observe an object only based on its type.
+     * If all the registered observers do, the observer chosen for the first object of a given
+     * type is directly used for all the next objects of this type.
+     * @return true if the choice only depends on the object type, false otherwise
+     */
+    public boolean isObservingByType()
+    {
+        return false;
+    }
 }
@@ -2,10 +2,13 @@ package com.axellience.vuegwt.core.client.observer;
 
 import com.axellience.vuegwt.core.client.observer.functions.VueObserveArray;
 import com.axellience.vuegwt.core.client.observer.functions.VueWalk;
+import com.axellience.vuegwt.core.client.jsnative.jstypes.JsMap;
+import elemental2.core.Function;
 import elemental2.core.JsArray;
 import elemental2.core.JsObject;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLScriptElement;
+import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsType;
 import jsinterop.base.Js;
 import jsinterop.base.JsPropertyMap;
@@ -26,11 +29,21 @@ import java.util.Map;
 public class VueGWTObserverManager
 {
     private static VueGWTObserverManager INSTANCE;
+    private static final String NOT_REACTIVE_FLAG = "vuegwt$notReactive";
 
     private final List<VueGWTObserver> observers = new LinkedList<>();
     private final Map<String, Map<String, Object>> classesPropertyCaches = new HashMap<>();
+    private final JsMap<Object, TypeObservation> typeObservations = new JsMap<>();
+    private boolean canCacheTypeObservations = true;
+    private boolean lazyObservation = false;
     private VueObserveArray vueObserveArrayFunction;
     private VueWalk vueWalkFunction;
+    private VueObserverPrototype vueObserverPrototype;
+    private Function vueDepConstructor;
+
+    private int batchDepth = 0;
+    private JsArray<VueObserver> batchedObservers = new JsArray<>();
+    private JsArray<Object> batchedObjects = new JsArray<>();
 
     public static VueGWTObserverManager get()
     {
@@ -52,6 +65,11 @@ public class VueGWTObserverManager
     public void registerVueGWTObserver(VueGWTObserver observer)
     {
         observers.add(0, observer);
+        if (!observer.isObservingByType())
+            canCacheTypeObservations = false;
+
+        // Observers changed, the observer for a given type might not be the same
+        typeObservations.clear();
     }
 
     /**
@@ -61,27 +79,111 @@ public class VueGWTObserverManager
      * properties reactive (for some reason), you should return true in your {@link VueGWTObserver}.
      * You are then responsible to call notifyDep on your object {@link VueObserver} and propagate
      * observation to the object property values.
+     * <br>
+     * If all the observers only depend on the object type, the way we observe an object is cached
+     * on its prototype, so next objects of the same type don't have to go through all the
+     * observers.
      * @param object The object to potentially observe
      * @return true if we are observing and Vue shouldn't observe, false otherwise
      */
     private boolean observeJavaObject(Object object)
+    {
+        // Frozen objects and instances of NotReactive classes
+        if (Js.isTruthy(((JsPropertyMap) object).get(NOT_REACTIVE_FLAG)))
+            return true;
+
+        Object prototype = ((JsPropertyMap) object).get("__proto__");
+        TypeObservation typeObservation = typeObservations.get(prototype);
+        if (typeObservation == null)
+        {
+            typeObservation = createTypeObservation(object);
+            if (canCacheTypeObservations)
+                typeObservations.set(prototype, typeObservation);
+
+            // Our observer already observed this object while creating the TypeObservation
+            if (typeObservation.observer != null)
+                return true;
+        }
+
+        if (lazyObservation && typeObservation.isObservingJavaObject())
+        {
+            deferObservation(object, typeObservation);
+            return true;
+        }
+
+        return typeObservation.observe(object);
+    }
+
+    /**
+     * Defer the observation of a Java object until it is read by a watcher.
+     * Vue will call depend on the Dep of the object observer the first time the object is read
+     * from a reactive property by a watcher (render, computed property...).
+     * @param object The object to observe
+     * @param typeObservation How to observe the object
+     */
+    private void deferObservation(Object object, TypeObservation typeObservation)
+    {
+        getVueObserver(object).deferObservation(() -> {
+            if (!typeObservation.observe(object))
+                vueWalkFunction.walk(object);
+        });
+    }
+
+    /**
+     * Enable lazy observation.
+     * When enabled, Java objects are only made reactive the first time they are read by a watcher
+     * (render function, computed property...) instead of as soon as they are referenced by an
+     * observed object. The elements of an observed Collection are always observed with the
+     * Collection.
+     * This makes binding big object graphs cheap when only a part of them is displayed.
+     * This should be called before creating any Component.
+     * @param lazyObservation true to enable lazy observation, false otherwise
+     */
+    @JsIgnore
+    public void setLazyObservation(boolean lazyObservation)
+    {
+        this.lazyObservation = lazyObservation;
+    }
+
+    /**
+     * Run the deferred observation of the given objects, if they have one.
+     * @param objects The objects to observe now
+     * @param <T> The type of the objects
+     */
+    <T> void runDeferredObservations(JsArray<T> objects)
+    {
+        if (!lazyObservation)
+            return;
+
+        for (int i = 0; i < objects.length; i++)
+        {
+            Object object = objects.getAt(i);
+            if (object == null || !"object".equals(Js.typeof(object)))
+                continue;
+
+            VueObserver observer = getVueObserver(object);
+            if (observer != null)
+                observer.runDeferredObservation();
+        }
+    }
+
+    private TypeObservation createTypeObservation(Object object)
     {
         // Ignore pure JS objects, this is to avoid impacting pure Vue.js components
         if (object.getClass() == JsObject.class)
-            return false;
+            return TypeObservation.VUE_OBSERVATION;
 
         // Don't observe Java classes
         if (object instanceof Class)
-            return true;
+            return TypeObservation.NO_OBSERVATION;
 
         // Check if we have a custom Java observer
         for (VueGWTObserver observer : observers)
             if (observer.observe(object))
-                return true;
+                return new TypeObservation(observer);
 
-        makeStaticallyInitializedPropertiesReactive((JsObject) object,
-            object.getClass().getCanonicalName());
-        return false;
+        return new TypeObservation(getClassPropertiesCache((JsObject) object,
+            object.getClass().getCanonicalName()));
     }
 
     /**
@@ -132,6 +234,195 @@ public class VueGWTObserverManager
         vueWalkFunction.walk(object);
     }
 
+    /**
+     * Run the given code in a batch.
+     * During the batch, changes to observed Collections don't notify Vue and new values are not
+     * observed right away. At the end of the batch, all the new values are observed at once and
+     * each changed Collection notifies Vue once.
+     * This is useful when doing a lot of changes at once, like filling a List in a loop.
+     * Batches can be nested, everything is done at the end of the outermost batch.
+     * @param runnable The code to run in the batch
+     */
+    @JsIgnore
+    public void batch(Runnable runnable)
+    {
+        batchDepth++;
+        try
+        {
+            runnable.run();
+        }
+        finally
+        {
+            batchDepth--;
+            if (batchDepth == 0)
+                flushBatch();
+        }
+    }
+
+    private void flushBatch()
+    {
+        JsArray<VueObserver> observers = batchedObservers;
+        JsArray<Object> objects = batchedObjects;
+        batchedObservers = new JsArray<>();
+        batchedObjects = new JsArray<>();
+
+        // Observe new values first so watchers get reactive values
+        if (objects.length > 0)
+        {
+            observeArray(objects);
+            runDeferredObservations(objects);
+        }
+
+        for (int i = 0; i < observers.length; i++)
+            observers.getAt(i).notifyDeferredDep();
+    }
+
+    /**
+     * Defer the notification of the given observer if we are in a batch.
+     * @param observer The observer to notify
+     * @return true if the notification has been deferred, false if not in a batch
+     */
+    boolean deferNotification(VueObserver observer)
+    {
+        if (batchDepth == 0)
+            return false;
+
+        if (observer.markBatched())
+            batchedObservers.push(observer);
+        return true;
+    }
+
+    /**
+     * Defer the observation of the given objects if we are in a batch.
+     * @param objects The objects to observe
+     * @param <T> The type of the objects
+     * @return true if the observation has been deferred, false if not in a batch
+     */
+    <T> boolean deferObservation(JsArray<T> objects)
+    {
+        if (batchDepth == 0)
+            return false;
+
+        for (int i = 0; i < objects.length; i++)
+            batchedObjects.push(objects.getAt(i));
+        return true;
+    }
+
+    /**
+     * Prevent Vue from observing the given object.
+     * Vue won't walk its properties, and won't observe the objects it references.
+     * This is useful for big read only objects that would be costly to observe.
+     * This must be called before the object is made visible to a Vue Component.
+     * @param object The object to freeze
+     */
+    public void freeze(Object object)
+    {
+        if (object == null || !"object".equals(Js.typeof(object)))
+            return;
+
+        JsPropertyMap objectMap = Js.asPropertyMap(object);
+        if (objectMap.has("__ob__"))
+            return;
+
+        // The Vue observer hasn't been captured yet, Vue will create the observer but won't walk
+        if (vueObserverPrototype == null || vueDepConstructor == null)
+        {
+            setNotReactiveFlag(object);
+            return;
+        }
+
+        // Vue doesn't observe objects that already have an observer
+        JsObject frozenObserverObject = new JsObject();
+        frozenObserverObject.__proto__ = Js.cast(vueObserverPrototype);
+        JsPropertyMap<Object> frozenObserver = Js.cast(frozenObserverObject);
+        frozenObserver.set("value", object);
+        frozenObserver.set("dep", createVueDep());
+        frozenObserver.set("vmCount", 0);
+
+        JsPropertyMap<Object> descriptor = JsPropertyMap.of();
+        descriptor.set("value", frozenObserver);
+        descriptor.set("writable", true);
+        descriptor.set("configurable", true);
+        JsObject.defineProperty(object, "__ob__", Js.cast(descriptor));
+    }
+
+    /**
+     * Prevent Vue from observing the instances of the given class.
+     * This is called by the code generated for classes annotated with
+     * {@link com.axellience.vuegwt.core.annotations.reactivity.NotReactive}.
+     * @param type The class whose instances won't be observed
+     */
+    @JsIgnore
+    public void markNotReactive(Class<?> type)
+    {
+        setNotReactiveFlag(Js.asPropertyMap(Js.asConstructorFn(type)).get("prototype"));
+    }
+
+    private void setNotReactiveFlag(Object object)
+    {
+        JsPropertyMap<Object> descriptor = JsPropertyMap.of();
+        descriptor.set("value", true);
+        descriptor.set("configurable", true);
+        JsObject.defineProperty(object, NOT_REACTIVE_FLAG, Js.cast(descriptor));
+    }
+
+    /**
+     * Create a new Vue Dep. Watchers that call depend on it while they evaluate are notified
+     * when notify is called on it.
+     * @return A new Vue Dep
+     */
+    @JsIgnore
+    public Object createVueDep()
+    {
+        JsObject dep = new JsObject();
+        dep.__proto__ = Js.cast(((JsPropertyMap) vueDepConstructor).get("prototype"));
+        vueDepConstructor.call(dep);
+        return dep;
+    }
+
+    /**
+     * Return whether a Vue watcher (render function, computed property...) is being evaluated.
+     * Reactive values read at that time are collected as its dependencies.
+     * @return true if a watcher is collecting its dependencies, false otherwise
+     */
+    @JsIgnore
+    public boolean isCollectingDependencies()
+    {
+        return vueDepConstructor != null
+            && Js.isTruthy(((JsPropertyMap) vueDepConstructor).get("target"));
+    }
+
+    /**
+     * Read a property without making the watcher being evaluated depend on it.
+     * @param object The object to read the property of
+     * @param propertyName The name of the property
+     * @return The value of the property
+     */
+    public Object getWithoutDependency(Object object, String propertyName)
+    {
+        JsPropertyMap<Object> depConstructor = Js.cast(vueDepConstructor);
+        Object target = depConstructor.get("target");
+        depConstructor.set("target", null);
+        try
+        {
+            return Js.asPropertyMap(object).get(propertyName);
+        }
+        finally
+        {
+            depConstructor.set("target", target);
+        }
+    }
+
+    /**
+     * Capture the constructor of the Vue Dep.
+     * This allows us to create observers for frozen objects.
+     * @param vueDepConstructor The constructor of the Vue Dep
+     */
+    public void captureVueDepConstructor(Function vueDepConstructor)
+    {
+        this.vueDepConstructor = vueDepConstructor;
+    }
+
     /**
      * Customize the VueObserver instance.
      * We get in between to be warned whenever an object is observed and observe it using
@@ -140,6 +431,7 @@ public class VueGWTObserverManager
      */
     public void customizeVueObserverPrototype(VueObserverPrototype vueObserverPrototype)
     {
+        this.vueObserverPrototype = vueObserverPrototype;
         vueObserveArrayFunction = vueObserverPrototype.observeArray;
         vueWalkFunction = vueObserverPrototype.walk;
 
@@ -159,7 +451,7 @@ public class VueGWTObserverManager
         HTMLScriptElement scriptElement =
             (HTMLScriptElement) DomGlobal.document.createElement("script");
         scriptElement.text =
-            "new Vue({created: function () {VueGWT.VueGWTObserverManager.get().customizeVueObserverPrototype(this.$data.__ob__.__proto__);}});";
+            "new Vue({created: function () {var manager = VueGWT.VueGWTObserverManager.get(); manager.captureVueDepConstructor(this.$data.__ob__.dep.constructor); manager.customizeVueObserverPrototype(this.$data.__ob__.__proto__);}});";
         DomGlobal.document.body.appendChild(scriptElement);
     }
 
@@ -176,16 +468,11 @@ public class VueGWTObserverManager
      * To fix the issue, we manually look for those properties and set them explicitly on the
      * object.
      * @param object The Java object to observe
-     * @param className The Java class name to observe
+     * @param cache The statically initialized properties of the object class
      */
-    private void makeStaticallyInitializedPropertiesReactive(JsObject object, String className)
+    private static void makeStaticallyInitializedPropertiesReactive(JsObject object,
+        Map<String, Object> cache)
     {
-        Map<String, Object> cache = classesPropertyCaches.get(className);
-        if (cache == null)
-        {
-            cache = initClassPropertiesCache(object, className);
-        }
-
         JsPropertyMap javaObjectPropertyMap = ((JsPropertyMap) object);
         cache.forEach((key, value) -> {
             if (!object.hasOwnProperty(key))
@@ -193,6 +480,15 @@ public class VueGWTObserverManager
         });
     }
 
+    private Map<String, Object> getClassPropertiesCache(JsObject object, String className)
+    {
+        Map<String, Object> cache = classesPropertyCaches.get(className);
+        if (cache == null)
+            cache = initClassPropertiesCache(object, className);
+
+        return cache;
+    }
+
     private Map<String, Object> initClassPropertiesCache(JsObject object, String className)
     {
         final Map<String, Object> tmpCache = new HashMap<>();
@@ -214,4 +510,68 @@ public class VueGWTObserverManager
         return Js.isTripleEqual(value, null) || (!"function".equals(Js.typeof(value))
                                                      && !"object".equals(Js.typeof(value)));
     }
+
+    /**
+     * How objects of a given type are observed.
+     */
+    private static class TypeObservation
+    {
+        /**
+         * Let Vue.js observe the object as is
+         */
+        private static final TypeObservation VUE_OBSERVATION = new TypeObservation(false);
+
+        /**
+         * Don't observe the object at all
+         */
+        private static final TypeObservation NO_OBSERVATION = new TypeObservation(true);
+
+        private final VueGWTObserver observer;
+        private final boolean skipVueObservation;
+        private final Map<String, Object> staticallyInitializedProperties;
+
+        private TypeObservation(boolean skipVueObservation)
+        {
+            this.observer = null;
+            this.skipVueObservation = skipVueObservation;
+            this.staticallyInitializedProperties = null;
+        }
+
+        private TypeObservation(VueGWTObserver observer)
+        {
+            this.observer = observer;
+            this.skipVueObservation = true;
+            this.staticallyInitializedProperties = null;
+        }
+
+        private TypeObservation(Map<String, Object> staticallyInitializedProperties)
+        {
+            this.observer = null;
+            this.skipVueObservation = false;
+            this.staticallyInitializedProperties = staticallyInitializedProperties;
+        }
+
+        /**
+         * Return whether Java objects of this type are observed by Vue GWT.
+         * @return true if observed by an observer or by walking their properties
+         */
+        private boolean isObservingJavaObject()
+        {
+            return observer != null || staticallyInitializedProperties != null;
+        }
+
+        private boolean observe(Object object)
+        {
+            if (observer != null)
+                return observer.observe(object);
+
+            if (staticallyInitializedProperties != null)
+            {
+                makeStaticallyInitializedPropertiesReactive((JsObject) object,
+                    staticallyInitializedProperties);
+            }
+
+            return skipVueObservation;
+        }
+    }
 }
@@ -1,11 +1,15 @@
 package com.axellience.vuegwt.core.client.observer;
 
+import com.axellience.vuegwt.core.client.jsnative.jsfunctions.JsRunnable;
+import elemental2.core.Function;
 import elemental2.core.JsArray;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 
 /**
  * @author Adrien Baron
@@ -16,19 +20,173 @@ public class VueObserver
     @JsProperty
     private Dep dep;
 
-    public native <T> void observeArray(JsArray<T> array);
-    public native void observeArray(Object[] array);
+    @JsProperty(name = "vuegwt$modCount")
+    private Double modificationCount;
+
+    @JsProperty(name = "vuegwt$snapshot")
+    private JsArray snapshot;
+
+    @JsProperty(name = "vuegwt$snapshotModCount")
+    private Double snapshotModificationCount;
+
+    @JsProperty(name = "vuegwt$snapshotDisabled")
+    private boolean snapshotDisabled;
+
+    @JsProperty(name = "vuegwt$batched")
+    private boolean batched;
+
+    @JsProperty(name = "vuegwt$deferredObservation")
+    private JsRunnable deferredObservation;
+
+    @JsMethod(name = "observeArray")
+    private native <T> void vueObserveArray(JsArray<T> array);
+
+    /**
+     * Observe all the objects in the given array.
+     * During a {@link VueGWTObserverManager#batch(Runnable)} the observation is deferred to the
+     * end of the batch.
+     * @param array The objects to observe
+     * @param <T> The type of the objects
+     */
+    @JsOverlay
+    public final <T> void observeArray(JsArray<T> array) {
+        VueGWTObserverManager observerManager = VueGWTObserverManager.get();
+        if (observerManager.deferObservation(array))
+            return;
+
+        vueObserveArray(array);
+        // Values of an observed Collection are observed right away
+        observerManager.runDeferredObservations(array);
+    }
+
+    @JsOverlay
+    public final void observeArray(Object[] array) {
+        observeArray(Js.<JsArray<Object>>cast(array));
+    }
 
     @JsOverlay
     public final void observe(Object toObserve) {
         observeArray(new JsArray<>(toObserve));
     }
 
+    /**
+     * Notify the dependencies of the observed object.
+     * During a {@link VueGWTObserverManager#batch(Runnable)} the notification is deferred to the
+     * end of the batch.
+     */
     @JsOverlay
     public final void notifyDep() {
+        this.modificationCount = (double) getModificationCount() + 1;
+        if (!VueGWTObserverManager.get().deferNotification(this))
+            this.dep.notifySelf();
+    }
+
+    /**
+     * Mark this observer as waiting for the end of the current batch to notify.
+     * @return true if it wasn't already waiting, false otherwise
+     */
+    @JsOverlay
+    final boolean markBatched() {
+        if (this.batched)
+            return false;
+
+        this.batched = true;
+        return true;
+    }
+
+    @JsOverlay
+    final void notifyDeferredDep() {
+        this.batched = false;
         this.dep.notifySelf();
     }
 
+    /**
+     * Return the number of times {@link #notifyDep()} has been called on this observer.
+     * This is used to know if the observed object changed since a given point in time.
+     * @return The modification count of the observed object
+     */
+    @JsOverlay
+    public final int getModificationCount() {
+        return this.modificationCount == null ? 0 : this.modificationCount.intValue();
+    }
+
+    /**
+     * Return the array snapshot of the observed object, if it didn't change since the snapshot
+     * was taken.
+     * Snapshots are never modified, when the observed object changes a new one is taken.
+     * @param <T> The type of the snapshot elements
+     * @return The snapshot, or null if there is none or if it's outdated
+     */
+    @JsOverlay
+    public final <T> JsArray<T> getSnapshot() {
+        if (this.snapshot == null)
+            return null;
+
+        if (getModificationCount() != this.snapshotModificationCount.intValue())
+            return null;
+
+        return this.snapshot;
+    }
+
+    /**
+     * Store an array snapshot of the observed object.
+     * It will be returned by {@link #getSnapshot()} until the observed object changes.
+     * @param snapshot The snapshot of the observed object
+     * @param <T> The type of the snapshot elements
+     */
+    @JsOverlay
+    public final <T> void setSnapshot(JsArray<T> snapshot) {
+        if (this.snapshotDisabled)
+            return;
+
+        this.snapshot = snapshot;
+        this.snapshotModificationCount = (double) getModificationCount();
+    }
+
+    /**
+     * Defer the observation of the observed object until it is read by a watcher.
+     * Vue calls depend on our Dep each time the object is read from a reactive property by a
+     * watcher, we run the deferred observation the first time it happens.
+     * @param deferredObservation The observation to run
+     */
+    @JsOverlay
+    public final void deferObservation(JsRunnable deferredObservation) {
+        this.deferredObservation = deferredObservation;
+
+        VueObserver observer = this;
+        JsPropertyMap<Object> depMap = Js.asPropertyMap(this.dep);
+        Function depend = Js.cast(depMap.get("depend"));
+        JsRunnable deferredDepend = () -> {
+            observer.runDeferredObservation();
+            depend.call(depMap);
+        };
+        depMap.set("depend", deferredDepend);
+    }
+
+    /**
+     * Run the deferred observation of the observed object, if there is one.
+     */
+    @JsOverlay
+    public final void runDeferredObservation() {
+        if (this.deferredObservation == null)
+            return;
+
+        JsRunnable observation = this.deferredObservation;
+        this.deferredObservation = null;
+        Js.asPropertyMap(this.dep).delete("depend");
+        observation.run();
+    }
+
+    /**
+     * Never keep an array snapshot of the observed object.
+     * This is used for objects that can change without notifying this observer.
+     */
+    @JsOverlay
+    public final void disableSnapshot() {
+        this.snapshotDisabled = true;
+        this.snapshot = null;
+    }
+
     private class Dep {
         @JsMethod(name = "notify")
         public native void notifySelf();
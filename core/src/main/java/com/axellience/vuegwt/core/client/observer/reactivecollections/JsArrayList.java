@@ -0,0 +1,162 @@
+package com.axellience.vuegwt.core.client.observer.reactivecollections;
+
+import elemental2.core.JsArray;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A {@link java.util.List} storing its elements in a plain JS array.
+ * When used in a Component data, Vue.js observes the backing array like any JS array. All the
+ * mutations go through the array methods patched by Vue, and v-for iterates directly on the backing
+ * array without copying it.
+ * @param <T> The type of elements in this list
+ * @author Adrien Baron
+ */
+public class JsArrayList<T> extends AbstractList<T> implements RandomAccess
+{
+    /**
+     * Elements are passed as arguments to push and splice, browsers throw when there are too
+     * many arguments. We add large collections by chunks of this size.
+     */
+    private static final int MAX_CHUNK_SIZE = 10000;
+
+    private JsArray<T> array;
+
+    public JsArrayList()
+    {
+        this(new JsArray<>());
+    }
+
+    public JsArrayList(Collection<? extends T> collection)
+    {
+        this();
+        addAll(collection);
+    }
+
+    /**
+     * Create a List on top of an existing JS array.
+     * The array is not copied, changes to the List will be visible in the array.
+     * @param array The backing array
+     */
+    public JsArrayList(JsArray<T> array)
+    {
+        this.array = array;
+    }
+
+    /**
+     * Return the JS array backing this List.
+     * @return The backing JS array
+     */
+    public JsArray<T> getJsArray()
+    {
+        return array;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        checkIndex(index, array.length);
+        return array.getAt(index);
+    }
+
+    @Override
+    public int size()
+    {
+        return array.length;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        array.push(element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element)
+    {
+        checkIndex(index, array.length + 1);
+        array.splice(index, 0, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        if (collection.isEmpty())
+            return false;
+
+        T[] elements = (T[]) collection.toArray();
+        for (int start = 0; start < elements.length; start += MAX_CHUNK_SIZE)
+            array.push(getChunk(elements, start));
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection)
+    {
+        checkIndex(index, array.length + 1);
+        if (collection.isEmpty())
+            return false;
+
+        T[] elements = (T[]) collection.toArray();
+        for (int start = 0; start < elements.length; start += MAX_CHUNK_SIZE)
+            array.splice(index + start, 0, getChunk(elements, start));
+
+        return true;
+    }
+
+    @Override
+    public T set(int index, T element)
+    {
+        checkIndex(index, array.length);
+        return array.splice(index, 1, element).getAt(0);
+    }
+
+    @Override
+    public T remove(int index)
+    {
+        checkIndex(index, array.length);
+        return array.splice(index, 1).getAt(0);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > array.length || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("From Index: "
+                + fromIndex
+                + ", To Index: "
+                + toIndex
+                + ", Size: "
+                + array.length);
+        }
+
+        array.splice(fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public void clear()
+    {
+        array.splice(0, array.length);
+    }
+
+    private static <T> T[] getChunk(T[] elements, int start)
+    {
+        if (start == 0 && elements.length <= MAX_CHUNK_SIZE)
+            return elements;
+
+        int end = Math.min(elements.length, start + MAX_CHUNK_SIZE);
+        return Arrays.copyOfRange(elements, start, end);
+    }
+
+    private static void checkIndex(int index, int size)
+    {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
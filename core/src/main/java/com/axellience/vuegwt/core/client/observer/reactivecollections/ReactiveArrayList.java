@@ -0,0 +1,306 @@
+package com.axellience.vuegwt.core.client.observer.reactivecollections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.notifyAdded;
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.notifyAddedAll;
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.notifyChanged;
+
+/**
+ * An {@link ArrayList} that notifies Vue.js when it's modified.
+ * Contrary to regular Lists, Vue GWT doesn't have to wrap the methods of each instance to observe
+ * it. Use it for Lists you have many instances of in your Components data.
+ * <br>
+ * Changes made through its iterators and sub lists are notified as well. Like the ones of
+ * {@link ArrayList}, its iterators throw a {@link ConcurrentModificationException} if the List is
+ * structurally modified by something else while iterating.
+ * @param <E> The type of elements in this list
+ * @author Adrien Baron
+ */
+public class ReactiveArrayList<E> extends ArrayList<E> implements ReactiveCollection
+{
+    /**
+     * Count of structural changes, so our iterators fail fast like the {@link ArrayList} ones.
+     */
+    private int changeCount = 0;
+
+    public ReactiveArrayList()
+    {
+        super();
+    }
+
+    public ReactiveArrayList(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveArrayList(Collection<? extends E> c)
+    {
+        super(c);
+    }
+
+    @Override
+    public boolean add(E e)
+    {
+        boolean result = super.add(e);
+        changeCount++;
+        notifyAdded(this, e);
+        return result;
+    }
+
+    @Override
+    public void add(int index, E element)
+    {
+        super.add(index, element);
+        changeCount++;
+        notifyAdded(this, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c)
+    {
+        boolean result = super.addAll(c);
+        changeCount++;
+        notifyAddedAll(this, c);
+        return result;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c)
+    {
+        boolean result = super.addAll(index, c);
+        changeCount++;
+        notifyAddedAll(this, c);
+        return result;
+    }
+
+    @Override
+    public E set(int index, E element)
+    {
+        E result = super.set(index, element);
+        notifyAdded(this, element);
+        return result;
+    }
+
+    @Override
+    public E remove(int index)
+    {
+        E result = super.remove(index);
+        changeCount++;
+        notifyChanged(this);
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        boolean result = super.remove(o);
+        if (result)
+        {
+            changeCount++;
+            notifyChanged(this);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c)
+    {
+        boolean result = super.removeAll(c);
+        if (result)
+        {
+            changeCount++;
+            notifyChanged(this);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c)
+    {
+        boolean result = super.retainAll(c);
+        if (result)
+        {
+            changeCount++;
+            notifyChanged(this);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        boolean result = super.removeIf(filter);
+        if (result)
+        {
+            changeCount++;
+            notifyChanged(this);
+        }
+        return result;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator)
+    {
+        super.replaceAll(operator);
+        changeCount++;
+        notifyAddedAll(this, this);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c)
+    {
+        super.sort(c);
+        changeCount++;
+        notifyChanged(this);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (isEmpty())
+            return;
+
+        super.clear();
+        changeCount++;
+        notifyChanged(this);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex)
+    {
+        super.removeRange(fromIndex, toIndex);
+        changeCount++;
+        if (fromIndex < toIndex)
+            notifyChanged(this);
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator()
+    {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index)
+    {
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+
+        return new ReactiveListIterator(index);
+    }
+
+    /**
+     * A {@link ListIterator} that goes through the methods of the List, so its changes are
+     * notified.
+     */
+    private class ReactiveListIterator implements ListIterator<E>
+    {
+        private int cursor;
+        private int last = -1;
+        private int expectedChangeCount = changeCount;
+
+        private ReactiveListIterator(int index)
+        {
+            this.cursor = index;
+        }
+
+        private void checkForChange()
+        {
+            if (changeCount != expectedChangeCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return cursor < size();
+        }
+
+        @Override
+        public E next()
+        {
+            checkForChange();
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            last = cursor++;
+            return get(last);
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return cursor > 0;
+        }
+
+        @Override
+        public E previous()
+        {
+            checkForChange();
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+
+            last = --cursor;
+            return get(last);
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (last == -1)
+                throw new IllegalStateException();
+            checkForChange();
+
+            ReactiveArrayList.this.remove(last);
+            cursor = last;
+            last = -1;
+            expectedChangeCount = changeCount;
+        }
+
+        @Override
+        public void set(E e)
+        {
+            if (last == -1)
+                throw new IllegalStateException();
+            checkForChange();
+
+            ReactiveArrayList.this.set(last, e);
+        }
+
+        @Override
+        public void add(E e)
+        {
+            checkForChange();
+            ReactiveArrayList.this.add(cursor++, e);
+            last = -1;
+            expectedChangeCount = changeCount;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.axellience.vuegwt.core.client.observer.reactivecollections;
+
+/**
+ * Implemented by Java Collections and Maps that notify their Vue observer from their own mutable
+ * methods.
+ * Vue GWT doesn't need to wrap the methods of those objects to observe them.
+ * @author Adrien Baron
+ */
+public interface ReactiveCollection
+{
+}
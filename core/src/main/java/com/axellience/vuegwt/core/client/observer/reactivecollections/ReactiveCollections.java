@@ -0,0 +1,83 @@
+package com.axellience.vuegwt.core.client.observer.reactivecollections;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
+import com.axellience.vuegwt.core.client.tools.JsUtils;
+import elemental2.core.JsArray;
+import jsinterop.base.Js;
+
+import java.util.Collection;
+
+/**
+ * Notify the Vue observer of a {@link ReactiveCollection} when it's modified.
+ * If the collection is not observed (not visible in any Component), nothing is done.
+ * @author Adrien Baron
+ */
+final class ReactiveCollections
+{
+    private ReactiveCollections()
+    {
+    }
+
+    static void notifyChanged(ReactiveCollection collection)
+    {
+        VueObserver observer = getVueObserver(collection);
+        if (observer != null)
+            observer.notifyDep();
+    }
+
+    static void notifyAdded(ReactiveCollection collection, Object added)
+    {
+        VueObserver observer = getVueObserver(collection);
+        if (observer == null)
+            return;
+
+        observer.notifyDep();
+        observer.observe(added);
+    }
+
+    static void notifyAddedAll(ReactiveCollection collection, Collection<?> added)
+    {
+        VueObserver observer = getVueObserver(collection);
+        if (observer == null)
+            return;
+
+        observer.notifyDep();
+        observer.observeArray(JsUtils.arrayFrom(added));
+    }
+
+    /**
+     * Observe a value read from an observed collection, if it's not already observed.
+     * Values are only observed when read by a Vue watcher (template, computed property...), reads
+     * from Java code don't observe them.
+     * @param collection The collection the value comes from
+     * @param value The value to observe
+     */
+    static void observeValue(ReactiveCollection collection, Object value)
+    {
+        if (value == null || !"object".equals(Js.typeof(value)))
+            return;
+
+        if (!VueGWTObserverManager.get().isCollectingDependencies())
+            return;
+
+        if (Js.asPropertyMap(value).has("__ob__"))
+            return;
+
+        VueObserver observer = getVueObserver(collection);
+        if (observer != null)
+            observer.observe(value);
+    }
+
+    static <T> void observeValues(ReactiveCollection collection, JsArray<T> values)
+    {
+        VueObserver observer = getVueObserver(collection);
+        if (observer != null)
+            observer.observeArray(values);
+    }
+
+    private static VueObserver getVueObserver(ReactiveCollection collection)
+    {
+        return VueGWTObserverManager.get().getVueObserver(collection);
+    }
+}
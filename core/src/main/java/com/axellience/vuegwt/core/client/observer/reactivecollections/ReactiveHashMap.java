@@ -0,0 +1,404 @@
+package com.axellience.vuegwt.core.client.observer.reactivecollections;
+
+import elemental2.core.JsArray;
+import jsinterop.base.Js;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.notifyChanged;
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.observeValue;
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.observeValues;
+
+/**
+ * A {@link HashMap} that notifies Vue.js when it's modified.
+ * Contrary to regular Maps, Vue GWT doesn't have to wrap the methods of each instance to observe
+ * it. Use it for Maps you have many instances of in your Components data.
+ * <br>
+ * Values are observed lazily, when they are first read by a template, a computed property or a
+ * watcher with {@link #get(Object)}, or with one of the JS arrays of this Map. Those arrays are
+ * cached until the Map changes, and can be used directly in a v-for.
+ * <br>
+ * Changes made through its key, value and entry views, their iterators and the
+ * {@link Entry#setValue(Object)} of its entries are notified as well.
+ * @param <K> The type of keys in this map
+ * @param <V> The type of values in this map
+ * @author Adrien Baron
+ */
+public class ReactiveHashMap<K, V> extends HashMap<K, V> implements ReactiveCollection
+{
+    private JsArray<K> keysJsArray;
+    private JsArray<V> valuesJsArray;
+    private JsArray<Entry<K, V>> entriesJsArray;
+
+    public ReactiveHashMap()
+    {
+        super();
+    }
+
+    public ReactiveHashMap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveHashMap(Map<? extends K, ? extends V> m)
+    {
+        super(m);
+    }
+
+    /**
+     * Return the keys of this Map in a JS array.
+     * The array is cached until a key is added or removed, don't modify it.
+     * @return The keys of this Map
+     */
+    public JsArray<K> getKeysJsArray()
+    {
+        if (keysJsArray == null)
+        {
+            keysJsArray = new JsArray<>();
+            for (Entry<K, V> entry : super.entrySet())
+                keysJsArray.push(entry.getKey());
+        }
+
+        return keysJsArray;
+    }
+
+    /**
+     * Return the values of this Map in a JS array.
+     * The array is cached until the Map changes, don't modify it.
+     * @return The values of this Map
+     */
+    public JsArray<V> getValuesJsArray()
+    {
+        if (valuesJsArray == null)
+        {
+            valuesJsArray = new JsArray<>();
+            for (Entry<K, V> entry : super.entrySet())
+                valuesJsArray.push(entry.getValue());
+            observeValues(this, valuesJsArray);
+        }
+
+        return valuesJsArray;
+    }
+
+    /**
+     * Return the entries of this Map in a JS array.
+     * The array is cached until a key is added or removed, don't modify it.
+     * @return The entries of this Map
+     */
+    public JsArray<Entry<K, V>> getEntriesJsArray()
+    {
+        if (entriesJsArray == null)
+        {
+            entriesJsArray = Js.cast(entrySet().toArray());
+            observeValues(this, getValuesJsArray());
+        }
+
+        return entriesJsArray;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        V value = super.get(key);
+        observeValue(this, value);
+        return value;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        boolean hadKey = containsKey(key);
+        V result = super.put(key, value);
+        valuesJsArray = null;
+        if (!hadKey)
+            invalidateKeys();
+
+        notifyChanged(this);
+        return result;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        boolean hadKey = containsKey(key);
+        V result = super.remove(key);
+        if (hadKey)
+        {
+            valuesJsArray = null;
+            invalidateKeys();
+            notifyChanged(this);
+        }
+        return result;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function)
+    {
+        super.replaceAll(function);
+        valuesJsArray = null;
+        notifyChanged(this);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (isEmpty())
+            return;
+
+        super.clear();
+        valuesJsArray = null;
+        invalidateKeys();
+        notifyChanged(this);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    private void invalidateKeys()
+    {
+        keysJsArray = null;
+        entriesJsArray = null;
+    }
+
+    private Set<Entry<K, V>> getBackingEntries()
+    {
+        return super.entrySet();
+    }
+
+    /**
+     * Iterate on the entries of the Map. Removing them notifies the Map.
+     * @param <T> The type of the values returned by the iterator
+     */
+    private abstract class MapIterator<T> implements Iterator<T>
+    {
+        private final Iterator<Entry<K, V>> iterator = getBackingEntries().iterator();
+
+        @Override
+        public boolean hasNext()
+        {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            return next(iterator.next());
+        }
+
+        protected abstract T next(Entry<K, V> entry);
+
+        @Override
+        public void remove()
+        {
+            iterator.remove();
+            valuesJsArray = null;
+            invalidateKeys();
+            notifyChanged(ReactiveHashMap.this);
+        }
+    }
+
+    /**
+     * Entries of the Map. Removing them or changing their value notifies the Map.
+     */
+    private class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new MapIterator<Entry<K, V>>()
+            {
+                @Override
+                protected Entry<K, V> next(Entry<K, V> entry)
+                {
+                    return new ReactiveEntry(entry);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ReactiveHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return getBackingEntries().contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!getBackingEntries().contains(o))
+                return false;
+
+            ReactiveHashMap.this.remove(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            ReactiveHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Keys of the Map. Removing them notifies the Map.
+     */
+    private class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new MapIterator<K>()
+            {
+                @Override
+                protected K next(Entry<K, V> entry)
+                {
+                    return entry.getKey();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ReactiveHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!containsKey(o))
+                return false;
+
+            ReactiveHashMap.this.remove(o);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            ReactiveHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Values of the Map. Removing them notifies the Map.
+     */
+    private class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new MapIterator<V>()
+            {
+                @Override
+                protected V next(Entry<K, V> entry)
+                {
+                    return entry.getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ReactiveHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            ReactiveHashMap.this.clear();
+        }
+    }
+
+    /**
+     * An entry of the Map. Setting its value notifies the Map.
+     */
+    private class ReactiveEntry implements Entry<K, V>
+    {
+        private final Entry<K, V> entry;
+
+        private ReactiveEntry(Entry<K, V> entry)
+        {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue()
+        {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V result = entry.setValue(value);
+            valuesJsArray = null;
+            notifyChanged(ReactiveHashMap.this);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return entry.equals(o);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString()
+        {
+            return entry.toString();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.axellience.vuegwt.core.client.observer.reactivecollections;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.notifyAdded;
+import static com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollections.notifyChanged;
+
+/**
+ * A {@link HashSet} that notifies Vue.js when it's modified.
+ * Contrary to regular Sets, Vue GWT doesn't have to wrap the methods of each instance to observe
+ * it. Use it for Sets you have many instances of in your Components data.
+ * <br>
+ * Elements removed with its iterator are notified as well.
+ * @param <E> The type of elements in this set
+ * @author Adrien Baron
+ */
+public class ReactiveHashSet<E> extends HashSet<E> implements ReactiveCollection
+{
+    public ReactiveHashSet()
+    {
+        super();
+    }
+
+    public ReactiveHashSet(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveHashSet(Collection<? extends E> c)
+    {
+        super(c);
+    }
+
+    @Override
+    public boolean add(E e)
+    {
+        boolean result = super.add(e);
+        if (result)
+            notifyAdded(this, e);
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        boolean result = super.remove(o);
+        if (result)
+            notifyChanged(this);
+        return result;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c)
+    {
+        boolean result = super.removeAll(c);
+        if (result)
+            notifyChanged(this);
+        return result;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c)
+    {
+        boolean result = super.retainAll(c);
+        if (result)
+            notifyChanged(this);
+        return result;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        boolean result = super.removeIf(filter);
+        if (result)
+            notifyChanged(this);
+        return result;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (isEmpty())
+            return;
+
+        super.clear();
+        notifyChanged(this);
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        Iterator<E> iterator = super.iterator();
+        return new Iterator<E>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next()
+            {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove()
+            {
+                iterator.remove();
+                notifyChanged(ReactiveHashSet.this);
+            }
+        };
+    }
+}
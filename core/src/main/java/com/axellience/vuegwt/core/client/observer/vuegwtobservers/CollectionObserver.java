@@ -3,6 +3,7 @@ package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
 import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
 import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.core.client.observer.VueObserver;
+import com.axellience.vuegwt.core.client.observer.reactivecollections.JsArrayList;
 import com.axellience.vuegwt.core.client.tools.AfterMethodCall;
 import com.axellience.vuegwt.core.client.tools.JsUtils;
 
@@ -25,6 +26,10 @@ public class CollectionObserver extends VueGWTObserver
     @Override
     public boolean observe(Object object)
     {
+        // Let Vue.js walk it, it will observe its backing array
+        if (object instanceof JsArrayList)
+            return false;
+
         if (object instanceof List)
         {
             observeList((List) object);
@@ -96,4 +101,10 @@ public class CollectionObserver extends VueGWTObserver
             observer.observeArray(JsUtils.arrayFrom((Collection<?>) args[0]));
         }));
     }
+
+    @Override
+    public boolean isObservingByType()
+    {
+        return true;
+    }
 }
@@ -0,0 +1,75 @@
+package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
+import com.axellience.vuegwt.core.client.tools.JsUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This observer detects the immutable Collections and Maps from {@link Collections}.
+ * Their methods can't change them, so we only observe the values they contain, without wrapping
+ * their methods.
+ * Java 9 immutable Collections (List.of()...) are not available in GWT.
+ * @author Adrien Baron
+ */
+public class ImmutableCollectionObserver extends VueGWTObserver
+{
+    private final Set<Class<?>> immutableClasses = new HashSet<>();
+    private final Set<Class<?>> unmodifiableViewClasses = new HashSet<>();
+
+    public ImmutableCollectionObserver()
+    {
+        unmodifiableViewClasses.add(Collections
+            .unmodifiableCollection(new ArrayList<>())
+            .getClass());
+        unmodifiableViewClasses.add(Collections.unmodifiableList(new ArrayList<>()).getClass());
+        unmodifiableViewClasses.add(Collections.unmodifiableList(new LinkedList<>()).getClass());
+        unmodifiableViewClasses.add(Collections.unmodifiableSet(new HashSet<>()).getClass());
+        unmodifiableViewClasses.add(Collections.unmodifiableSortedSet(new TreeSet<>()).getClass());
+        unmodifiableViewClasses.add(Collections.unmodifiableMap(new TreeMap<>()).getClass());
+        unmodifiableViewClasses.add(Collections.unmodifiableSortedMap(new TreeMap<>()).getClass());
+
+        immutableClasses.add(Collections.emptyList().getClass());
+        immutableClasses.add(Collections.emptySet().getClass());
+        immutableClasses.add(Collections.emptyMap().getClass());
+        immutableClasses.add(Collections.singletonList(null).getClass());
+        immutableClasses.add(Collections.singleton(null).getClass());
+        immutableClasses.add(Collections.singletonMap(null, null).getClass());
+    }
+
+    @Override
+    public boolean observe(Object object)
+    {
+        boolean isUnmodifiableView = unmodifiableViewClasses.contains(object.getClass());
+        if (!isUnmodifiableView && !immutableClasses.contains(object.getClass()))
+            return false;
+
+        VueObserver observer = VueGWTObserverManager.get().getVueObserver(object);
+        // The underlying Collection of a view can still change
+        if (isUnmodifiableView)
+            observer.disableSnapshot();
+
+        if (object instanceof Map)
+            observer.observeArray(JsUtils.arrayFrom((Map) object));
+        else if (object instanceof Collection)
+            observer.observeArray(JsUtils.arrayFrom((Collection) object));
+
+        return true;
+    }
+
+    @Override
+    public boolean isObservingByType()
+    {
+        return true;
+    }
+}
@@ -61,4 +61,10 @@ public class MapObserver extends VueGWTObserver
             observer.observeArray(new Object[] { args[1] });
         }));
     }
+
+    @Override
+    public boolean isObservingByType()
+    {
+        return true;
+    }
 }
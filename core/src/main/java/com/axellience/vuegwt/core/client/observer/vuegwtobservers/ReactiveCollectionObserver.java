@@ -0,0 +1,45 @@
+package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
+import com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollection;
+import com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveHashMap;
+import com.axellience.vuegwt.core.client.tools.JsUtils;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This observer is able to observe {@link ReactiveCollection}.
+ * Those collections notify Vue from their own methods, so we only have to observe the values
+ * they already contain.
+ * @author Adrien Baron
+ */
+public class ReactiveCollectionObserver extends VueGWTObserver
+{
+    @Override
+    public boolean observe(Object object)
+    {
+        if (!(object instanceof ReactiveCollection))
+            return false;
+
+        // Values of ReactiveHashMap are observed when they are read
+        if (object instanceof ReactiveHashMap)
+            return true;
+
+        VueObserver observer = VueGWTObserverManager.get().getVueObserver(object);
+        if (object instanceof Map)
+            observer.observeArray(JsUtils.arrayFrom((Map) object));
+        else if (object instanceof Collection)
+            observer.observeArray(JsUtils.arrayFrom((Collection) object));
+
+        return true;
+    }
+
+    @Override
+    public boolean isObservingByType()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.core.annotations.reactivity.Reactive;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
+import elemental2.core.JsArray;
+import elemental2.core.JsObject;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * This observer is able to observe instances of {@link Reactive} classes.
+ * Their properties are already reactive on their prototype, so Vue doesn't have to walk them.
+ * @author Adrien Baron
+ */
+public class ReactiveModelObserver extends VueGWTObserver
+{
+    @Override
+    public boolean observe(Object object)
+    {
+        JsPropertyMap<Object> objectMap = Js.asPropertyMap(object);
+        JsArray<String> reactiveFields = Js.cast(objectMap.get("vuegwt$reactiveFields"));
+        if (reactiveFields == null)
+            return false;
+
+        // Instances created before their class was made reactive hide the reactive properties
+        JsObject jsObject = (JsObject) object;
+        for (int i = 0; i < reactiveFields.length; i++)
+        {
+            String fieldName = reactiveFields.getAt(i);
+            if (!jsObject.hasOwnProperty(fieldName))
+                continue;
+
+            Object value = objectMap.get(fieldName);
+            objectMap.delete(fieldName);
+            objectMap.set(fieldName, value);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isObservingByType()
+    {
+        return true;
+    }
+}
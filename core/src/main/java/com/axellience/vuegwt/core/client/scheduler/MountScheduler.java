@@ -0,0 +1,285 @@
+package com.axellience.vuegwt.core.client.scheduler;
+
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.hooks.HasExpandedState;
+import com.axellience.vuegwt.core.client.component.options.watch.WatcherRegistration;
+import com.axellience.vuegwt.core.client.tools.VueGWTTools;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.dom.DomGlobal;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Spread the mounting of deep recursive Component trees across frames.
+ * <br>
+ * Vue.js mounts a whole Component tree in one synchronous patch. For recursive Components
+ * mounted with incremental mount, we count how deep they are nested in each other. Those deeper
+ * than the eager depth first render an empty node, and are queued. Each frame, we render a chunk
+ * of the queued Components, which mounts their children, that are queued in turn.
+ * <br>
+ * Queued Components are rendered in the order they were created, so the tree is mounted level by
+ * level, top first.
+ * <br>
+ * Components implementing {@link HasExpandedState} can also be collapsed. Nested Components of a
+ * collapsed Component render an empty node at any depth, and are only queued once it's expanded.
+ * <br>
+ * Each tree has its own eager depth and chunk size, from the defaults when its root is created.
+ * They can be changed for a tree from the root created hook, or before the root is mounted.
+ * @author Adrien Baron
+ */
+public final class MountScheduler
+{
+    private static final String DEPTH = "vuegwt$mountDepth";
+    private static final String TREE = "vuegwt$mountTree";
+    private static final String RENDER = "vuegwt$mountRender";
+    private static final String WAITING_FOR_EXPAND = "vuegwt$waitingForExpand";
+
+    private static final String EAGER_DEPTH = "eagerDepth";
+    private static final String CHUNK_SIZE = "chunkSize";
+    private static final String QUEUE = "queue";
+    private static final String IS_FLUSH_SCHEDULED = "isFlushScheduled";
+
+    private static int defaultEagerDepth = 3;
+    private static int defaultChunkSize = 100;
+
+    private static JsArray<JsPropertyMap<Object>> treesWithDeferred = new JsArray<>();
+    private static boolean isFlushRequested = false;
+
+    private MountScheduler()
+    {
+    }
+
+    /**
+     * Set the number of levels of a recursive tree that are mounted right away, for the trees
+     * created from now on.
+     * @param eagerDepth The number of levels, 3 by default
+     */
+    public static void setEagerDepth(int eagerDepth)
+    {
+        MountScheduler.defaultEagerDepth = eagerDepth;
+    }
+
+    /**
+     * Set the number of levels mounted right away for the tree of the given Component.
+     * @param vm A Component mounted with incremental mount, usually the root of the tree
+     * @param eagerDepth The number of levels
+     */
+    public static void setEagerDepth(VueComponent vm, int eagerDepth)
+    {
+        getTree(Js.cast(vm)).set(EAGER_DEPTH, (double) eagerDepth);
+    }
+
+    /**
+     * Set the number of deferred Components rendered in each frame, for the trees created from
+     * now on.
+     * @param chunkSize The number of Components, 100 by default
+     */
+    public static void setChunkSize(int chunkSize)
+    {
+        MountScheduler.defaultChunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Set the number of deferred Components rendered in each frame for the tree of the given
+     * Component.
+     * @param vm A Component mounted with incremental mount, usually the root of the tree
+     * @param chunkSize The number of Components
+     */
+    public static void setChunkSize(VueComponent vm, int chunkSize)
+    {
+        getTree(Js.cast(vm)).set(CHUNK_SIZE, (double) Math.max(1, chunkSize));
+    }
+
+    /**
+     * Create a mixin that defers the mount of a Component if it's too deep in a recursive tree.
+     * @return A mixin to add to the Component options
+     */
+    public static Object createMixin()
+    {
+        return VueGWTTools.createHookMixin("beforeCreate", vm -> deferMount(Js.cast(vm)));
+    }
+
+    private static void deferMount(JsPropertyMap<Object> vm)
+    {
+        JsPropertyMap<Object> parent = getIncrementalParent(vm);
+        int depth = parent == null ? 1 : (int) Js.asDouble(parent.get(DEPTH)) + 1;
+        vm.set(DEPTH, (double) depth);
+        vm.set(TREE, parent == null ? createTree() : parent.get(TREE));
+
+        JsPropertyMap<Object> tree = getTree(vm);
+        boolean isParentCollapsed = parent != null && isCollapsed(parent);
+        if (depth <= Js.asDouble(tree.get(EAGER_DEPTH)) && !isParentCollapsed)
+            return;
+
+        // Render an empty node until the Component is flushed, the render function is then
+        // restored
+        JsPropertyMap<Object> options = Js.cast(vm.get("$options"));
+        vm.set(RENDER, options.get("render"));
+        options.set("render",
+            VueGWTTools.withThis((self, args) -> ((Function) args[0]).call(null)));
+
+        if (isParentCollapsed)
+        {
+            waitForExpand(parent, vm);
+            return;
+        }
+
+        defer(vm);
+    }
+
+    private static JsPropertyMap<Object> createTree()
+    {
+        JsPropertyMap<Object> tree = JsPropertyMap.of();
+        tree.set(EAGER_DEPTH, (double) defaultEagerDepth);
+        tree.set(CHUNK_SIZE, (double) defaultChunkSize);
+        tree.set(QUEUE, new JsArray<>());
+        return tree;
+    }
+
+    private static JsPropertyMap<Object> getTree(JsPropertyMap<Object> vm)
+    {
+        JsPropertyMap<Object> tree = Js.cast(vm.get(TREE));
+        if (tree == null)
+        {
+            throw new IllegalArgumentException(
+                "The Component is not mounted incrementally, it has no tree to configure");
+        }
+        return tree;
+    }
+
+    private static JsArray<JsPropertyMap<Object>> getQueue(JsPropertyMap<Object> tree)
+    {
+        return Js.cast(tree.get(QUEUE));
+    }
+
+    /**
+     * Queue the given Component in its tree, and flush on the next frame.
+     * @param vm The Component to render later
+     */
+    private static void defer(JsPropertyMap<Object> vm)
+    {
+        JsPropertyMap<Object> tree = getTree(vm);
+        getQueue(tree).push(vm);
+        scheduleFlush(tree);
+    }
+
+    private static void scheduleFlush(JsPropertyMap<Object> tree)
+    {
+        if (Js.isTruthy(tree.get(IS_FLUSH_SCHEDULED)))
+            return;
+
+        tree.set(IS_FLUSH_SCHEDULED, true);
+        treesWithDeferred.push(tree);
+        requestFlush();
+    }
+
+    /**
+     * Return the closest ancestor mounted with incremental mount.
+     * @param vm The Component instance
+     * @return The ancestor, or null if there is none
+     */
+    private static JsPropertyMap<Object> getIncrementalParent(JsPropertyMap<Object> vm)
+    {
+        JsPropertyMap<Object> parent = Js.cast(vm.get("$parent"));
+        while (parent != null)
+        {
+            if (parent.has(DEPTH))
+                return parent;
+
+            parent = Js.cast(parent.get("$parent"));
+        }
+        return null;
+    }
+
+    private static boolean isCollapsed(JsPropertyMap<Object> vm)
+    {
+        Object instance = vm;
+        return instance instanceof HasExpandedState && !((HasExpandedState) instance).isExpanded();
+    }
+
+    /**
+     * Queue the given Component once its collapsed parent is expanded.
+     * @param parent The collapsed parent
+     * @param vm The Component to mount once the parent is expanded
+     */
+    private static void waitForExpand(JsPropertyMap<Object> parent, JsPropertyMap<Object> vm)
+    {
+        JsArray<JsPropertyMap<Object>> waiting = Js.cast(parent.get(WAITING_FOR_EXPAND));
+        if (waiting != null)
+        {
+            waiting.push(vm);
+            return;
+        }
+
+        JsArray<JsPropertyMap<Object>> waitingChildren = new JsArray<>(vm);
+        parent.set(WAITING_FOR_EXPAND, waitingChildren);
+
+        VueComponent parentComponent = Js.cast(parent);
+        WatcherRegistration[] registration = new WatcherRegistration[1];
+        registration[0] = parentComponent.$watch(
+            () -> ((HasExpandedState) parentComponent).isExpanded(),
+            (Boolean isExpanded, Boolean wasExpanded) -> {
+                if (!isExpanded)
+                    return;
+
+                registration[0].unregister();
+                parent.delete(WAITING_FOR_EXPAND);
+                for (int i = 0; i < waitingChildren.length; i++)
+                    defer(waitingChildren.getAt(i));
+            });
+    }
+
+    private static void requestFlush()
+    {
+        if (isFlushRequested)
+            return;
+
+        isFlushRequested = true;
+        DomGlobal.requestAnimationFrame(timestamp -> {
+            isFlushRequested = false;
+            flush();
+            if (treesWithDeferred.length > 0)
+                requestFlush();
+        });
+    }
+
+    /**
+     * Render a chunk of the queued Components of each tree.
+     */
+    private static void flush()
+    {
+        // Trees queued during this flush are flushed on the next frame
+        JsArray<JsPropertyMap<Object>> trees = treesWithDeferred;
+        treesWithDeferred = new JsArray<>();
+        for (int i = 0; i < trees.length; i++)
+        {
+            JsPropertyMap<Object> tree = trees.getAt(i);
+            tree.delete(IS_FLUSH_SCHEDULED);
+            flushTree(tree);
+            if (getQueue(tree).length > 0)
+                scheduleFlush(tree);
+        }
+    }
+
+    private static void flushTree(JsPropertyMap<Object> tree)
+    {
+        JsArray<JsPropertyMap<Object>> queue = getQueue(tree);
+        int chunkSize = (int) Js.asDouble(tree.get(CHUNK_SIZE));
+        int rendered = 0;
+        while (queue.length > 0 && rendered < chunkSize)
+        {
+            JsPropertyMap<Object> vm = queue.shift();
+            if (Js.isTruthy(vm.get("_isDestroyed")))
+                continue;
+
+            // Restore the render function, so there is no wrapper left once mounted
+            JsPropertyMap<Object> options = Js.cast(vm.get("$options"));
+            options.set("render", vm.get(RENDER));
+            vm.delete(RENDER);
+
+            ((Function) vm.get("$forceUpdate")).call(vm);
+            rendered++;
+        }
+    }
+}
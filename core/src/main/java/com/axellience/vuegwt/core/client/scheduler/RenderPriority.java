@@ -0,0 +1,22 @@
+package com.axellience.vuegwt.core.client.scheduler;
+
+/**
+ * Priority of the re-renders of a Component.
+ * @author Adrien Baron
+ */
+public enum RenderPriority
+{
+    /**
+     * Re-render on the next tick, like Vue.js does by default.
+     */
+    NORMAL,
+    /**
+     * Re-render on the next animation frames, within the frame budget of {@link RenderScheduler}.
+     */
+    LOW,
+    /**
+     * Re-render when the browser is idle, or on the next animation frames if the browser doesn't
+     * support idle callbacks.
+     */
+    IDLE
+}
@@ -0,0 +1,197 @@
+package com.axellience.vuegwt.core.client.scheduler;
+
+import com.axellience.vuegwt.core.client.tools.VueGWTTools;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.dom.DomGlobal;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Spread the re-renders of low priority Components across frames.
+ * <br>
+ * Vue.js re-renders all the dirty Components in one tick. When a lot of Components change at
+ * once, this can block the UI for a long time. Components with a {@link RenderPriority} other
+ * than NORMAL get their render watcher replaced when it's created: instead of being queued for
+ * the next tick, their renders are queued here. Each frame, we render as many of them as fit in
+ * the frame budget, parents first, and continue on the next frame.
+ * <br>
+ * This includes the first render: when mounted, those Components render an empty node, and their
+ * content once their turn comes. This also applies to $forceUpdate, as it calls the render
+ * watcher.
+ * @author Adrien Baron
+ */
+public final class RenderScheduler
+{
+    private static final String SCHEDULED_FLAG = "vuegwt$renderScheduled";
+
+    private static double frameBudgetMs = 8;
+
+    private static final JsArray<JsPropertyMap<Object>> lowPriorityQueue = new JsArray<>();
+    private static final JsArray<JsPropertyMap<Object>> idlePriorityQueue = new JsArray<>();
+    private static boolean isLowPriorityFlushRequested = false;
+    private static boolean isIdlePriorityFlushRequested = false;
+
+    private RenderScheduler()
+    {
+    }
+
+    /**
+     * Set the time we can spend re-rendering low priority Components in each frame.
+     * At least one Component is re-rendered each frame, whatever its render time.
+     * @param frameBudgetMs The budget in milliseconds, 8 by default
+     */
+    public static void setFrameBudget(double frameBudgetMs)
+    {
+        RenderScheduler.frameBudgetMs = frameBudgetMs;
+    }
+
+    /**
+     * Create a mixin that schedules the renders of a Component with the given priority.
+     * @param priority The priority of the renders
+     * @return A mixin to add to the Component options
+     */
+    public static Object createMixin(RenderPriority priority)
+    {
+        return VueGWTTools.createHookMixin("beforeMount",
+            vm -> scheduleRenders(Js.cast(vm), priority));
+    }
+
+    /**
+     * Wrap the render function of the given instance for its first call. Vue.js creates the
+     * render watcher right before it, so we can replace its update and schedule the first render
+     * instead of doing it now.
+     * @param vm The instance about to be mounted
+     * @param priority The priority of its renders
+     */
+    private static void scheduleRenders(JsPropertyMap<Object> vm, RenderPriority priority)
+    {
+        JsPropertyMap<Object> options = Js.cast(vm.get("$options"));
+        Function render = Js.cast(options.get("render"));
+        options.set("render", VueGWTTools.withThis((self, args) -> {
+            options.set("render", render);
+
+            // Shadow the update method of the watcher prototype
+            JsPropertyMap<Object> renderWatcher = Js.cast(vm.get("_watcher"));
+            UpdateFunction update = () -> schedule(renderWatcher, priority);
+            renderWatcher.set("update", update);
+            schedule(renderWatcher, priority);
+
+            // Render an empty node until then
+            return ((Function) args[0]).call(null);
+        }));
+    }
+
+    private static void schedule(JsPropertyMap<Object> renderWatcher, RenderPriority priority)
+    {
+        if (Js.isTruthy(renderWatcher.get(SCHEDULED_FLAG)))
+            return;
+        renderWatcher.set(SCHEDULED_FLAG, true);
+
+        if (priority == RenderPriority.IDLE)
+        {
+            idlePriorityQueue.push(renderWatcher);
+            requestIdlePriorityFlush();
+        }
+        else
+        {
+            lowPriorityQueue.push(renderWatcher);
+            requestLowPriorityFlush();
+        }
+    }
+
+    private static void requestLowPriorityFlush()
+    {
+        if (isLowPriorityFlushRequested)
+            return;
+
+        isLowPriorityFlushRequested = true;
+        DomGlobal.requestAnimationFrame(timestamp -> {
+            isLowPriorityFlushRequested = false;
+            flush(lowPriorityQueue, frameBudgetMs);
+            if (lowPriorityQueue.length > 0)
+                requestLowPriorityFlush();
+        });
+    }
+
+    private static void requestIdlePriorityFlush()
+    {
+        if (isIdlePriorityFlushRequested)
+            return;
+
+        isIdlePriorityFlushRequested = true;
+        JsPropertyMap<Object> window = Js.cast(DomGlobal.window);
+        Function requestIdleCallback = Js.cast(window.get("requestIdleCallback"));
+        if (requestIdleCallback == null)
+        {
+            DomGlobal.requestAnimationFrame(timestamp -> flushIdlePriority(frameBudgetMs));
+            return;
+        }
+
+        IdleCallback idleCallback = deadline -> {
+            Function timeRemaining = Js.cast(deadline.get("timeRemaining"));
+            flushIdlePriority(Js.asDouble(timeRemaining.call(deadline)));
+        };
+        requestIdleCallback.call(DomGlobal.window, idleCallback);
+    }
+
+    private static void flushIdlePriority(double budgetMs)
+    {
+        isIdlePriorityFlushRequested = false;
+        flush(idlePriorityQueue, budgetMs);
+        if (idlePriorityQueue.length > 0)
+            requestIdlePriorityFlush();
+    }
+
+    /**
+     * Re-render the Components of the given queue until the budget is spent.
+     * @param queue The render watchers to run
+     * @param budgetMs The time we can spend
+     */
+    private static void flush(JsArray<JsPropertyMap<Object>> queue, double budgetMs)
+    {
+        // Same order as Vue.js, parents are re-rendered before their children
+        queue.sort((watcherA, watcherB) -> getWatcherId(watcherA) - getWatcherId(watcherB));
+
+        double start = DomGlobal.performance.now();
+        do
+        {
+            JsPropertyMap<Object> renderWatcher = queue.shift();
+            renderWatcher.delete(SCHEDULED_FLAG);
+            run(renderWatcher);
+        } while (queue.length > 0 && DomGlobal.performance.now() - start < budgetMs);
+    }
+
+    private static double getWatcherId(JsPropertyMap<Object> watcher)
+    {
+        return Js.asDouble(watcher.get("id"));
+    }
+
+    private static void run(JsPropertyMap<Object> renderWatcher)
+    {
+        JsPropertyMap<Object> vm = Js.cast(renderWatcher.get("vm"));
+        if (Js.isTruthy(vm.get("_isDestroyed")))
+            return;
+
+        ((Function) renderWatcher.get("run")).call(renderWatcher);
+
+        // Vue.js calls the updated hooks after flushing its queue, we have to do it ourselves
+        if (Js.isTruthy(vm.get("_isMounted")))
+            VueGWTTools.callHook(vm, "updated");
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface UpdateFunction
+    {
+        void update();
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface IdleCallback
+    {
+        void onIdle(JsPropertyMap<Object> deadline);
+    }
+}
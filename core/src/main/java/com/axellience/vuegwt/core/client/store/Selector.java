@@ -0,0 +1,106 @@
+package com.axellience.vuegwt.core.client.store;
+
+import com.axellience.vuegwt.core.client.VueGWT;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A memoized slice of the state of a {@link Store}.
+ * <br>
+ * Reading it with {@link #get()} from a render function, a computed property or a watcher
+ * makes it depend on the slice only. The slice is computed again only when the state snapshot
+ * changes, and watchers are only notified when the new slice is not equal to the previous one.
+ * <br>
+ * Selectors stay registered in their store until {@link #dispose()} is called. Selectors nobody
+ * watches cost nothing when the state changes, but they are kept in memory.
+ * @param <S> The type of the state
+ * @param <T> The type of the slice
+ * @author Adrien Baron
+ */
+public class Selector<S, T>
+{
+    private final Store<S> store;
+    private final java.util.function.Function<S, T> selectFunction;
+    private final BiPredicate<T, T> equality;
+    private Object dep;
+
+    private S selectedState;
+    private T value;
+
+    Selector(Store<S> store, java.util.function.Function<S, T> selectFunction,
+        BiPredicate<T, T> equality)
+    {
+        this.store = store;
+        this.selectFunction = selectFunction;
+        this.equality = equality;
+    }
+
+    /**
+     * Return the slice for the current state of the store.
+     * @return The selected slice
+     */
+    public T get()
+    {
+        S state = store.getState();
+        if (state != selectedState)
+        {
+            selectedState = state;
+            value = selectFunction.apply(state);
+        }
+
+        // Only create the Vue Dep once a watcher reads us, there are no watchers before Vue GWT
+        // is initialized
+        if (VueGWT.isReady() && VueGWTObserverManager.get().isCollectingDependencies())
+        {
+            if (dep == null)
+                dep = VueGWTObserverManager.get().createVueDep();
+            callDep("depend");
+        }
+
+        return value;
+    }
+
+    /**
+     * Stop updating this selector. It must not be used anymore.
+     */
+    public void dispose()
+    {
+        store.removeSelector(this);
+    }
+
+    void onStateChanged(S newState)
+    {
+        // Nobody depends on us, compute the slice the next time it's read
+        if (!hasSubscribers())
+            return;
+
+        T newValue = selectFunction.apply(newState);
+        selectedState = newState;
+        if (equality.test(value, newValue))
+            return;
+
+        value = newValue;
+        callDep("notify");
+    }
+
+    private boolean hasSubscribers()
+    {
+        if (dep == null)
+            return false;
+
+        JsPropertyMap<Object> depMap = Js.cast(dep);
+        JsArray<Object> subs = Js.cast(depMap.get("subs"));
+        return subs.length > 0;
+    }
+
+    private void callDep(String methodName)
+    {
+        JsPropertyMap<Object> depMap = Js.cast(dep);
+        ((Function) depMap.get(methodName)).call(dep);
+    }
+}
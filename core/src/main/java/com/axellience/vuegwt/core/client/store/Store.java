@@ -0,0 +1,96 @@
+package com.axellience.vuegwt.core.client.store;
+
+import com.axellience.vuegwt.core.client.tools.ShallowEquality;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Hold the state of an application as immutable snapshots.
+ * <br>
+ * The state itself is not observed by Vue. Components read it through {@link Selector}, and are
+ * only re-rendered when the slice of the state they selected changes. Each time the state is
+ * replaced, selectors that are used by watchers compute their slice again, and only notify their
+ * watchers if it's not shallowly equal to the previous one.
+ * @param <S> The type of the state
+ * @author Adrien Baron
+ */
+public class Store<S>
+{
+    private S state;
+    private final List<Selector<S, ?>> selectors = new ArrayList<>();
+
+    public Store(S initialState)
+    {
+        this.state = initialState;
+    }
+
+    /**
+     * Return the current state. Reading it directly doesn't make the caller depend on it, use a
+     * {@link Selector} for that.
+     * @return The current state snapshot
+     */
+    public S getState()
+    {
+        return state;
+    }
+
+    /**
+     * Replace the state by a new snapshot.
+     * Selectors whose slice changed notify their watchers.
+     * @param newState The new state snapshot
+     */
+    public void setState(S newState)
+    {
+        if (newState == state)
+            return;
+
+        state = newState;
+        for (Selector<S, ?> selector : new ArrayList<>(selectors))
+            selector.onStateChanged(newState);
+    }
+
+    /**
+     * Compute a new state from the current one, and replace it.
+     * @param reducer Return the new state snapshot from the current one
+     */
+    public void update(UnaryOperator<S> reducer)
+    {
+        setState(reducer.apply(state));
+    }
+
+    /**
+     * Create a selector on this store. Slices are compared with {@link
+     * ShallowEquality#isShallowEqual(Object, Object)}.
+     * @param selectFunction Return a slice of the state
+     * @param <T> The type of the slice
+     * @return A {@link Selector} to read the slice from Components
+     */
+    public <T> Selector<S, T> select(Function<S, T> selectFunction)
+    {
+        return select(selectFunction, ShallowEquality::isShallowEqual);
+    }
+
+    /**
+     * Create a selector on this store.
+     * @param selectFunction Return a slice of the state
+     * @param equality Return true if two slices are equal, in which case watchers are not
+     * notified
+     * @param <T> The type of the slice
+     * @return A {@link Selector} to read the slice from Components
+     */
+    public <T> Selector<S, T> select(Function<S, T> selectFunction, BiPredicate<T, T> equality)
+    {
+        Selector<S, T> selector = new Selector<>(this, selectFunction, equality);
+        selectors.add(selector);
+        return selector;
+    }
+
+    void removeSelector(Selector<S, ?> selector)
+    {
+        selectors.remove(selector);
+    }
+}
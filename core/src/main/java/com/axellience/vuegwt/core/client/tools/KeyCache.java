@@ -0,0 +1,78 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import com.axellience.vuegwt.core.client.jsnative.jstypes.JsMap;
+import com.axellience.vuegwt.core.client.jsnative.jstypes.JsWeakMap;
+import jsinterop.base.Js;
+
+/**
+ * Store values by key. Objects are held weakly, so removed rows can be garbage collected.
+ * <br>
+ * Primitive keys can't be held weakly, so they are kept in two generations. When the current
+ * generation is full, it becomes the old one and the previous old one is dropped. Keys read from
+ * the old generation are moved back to the current one, so only keys that were not used for a
+ * while are dropped.
+ * @param <V> The type of the values
+ * @author Adrien Baron
+ */
+class KeyCache<V>
+{
+    private static final int MAX_PRIMITIVE_KEYS = 1000;
+
+    private final JsWeakMap<Object, V> objectKeys = new JsWeakMap<>();
+    private JsMap<Object, V> primitiveKeys = new JsMap<>();
+    private JsMap<Object, V> oldPrimitiveKeys = new JsMap<>();
+
+    V get(Object key)
+    {
+        if (isObject(key))
+            return objectKeys.get(key);
+
+        V value = primitiveKeys.get(key);
+        if (value == null && oldPrimitiveKeys.has(key))
+        {
+            value = oldPrimitiveKeys.get(key);
+            oldPrimitiveKeys.delete(key);
+            setPrimitive(key, value);
+        }
+        return value;
+    }
+
+    void set(Object key, V value)
+    {
+        if (isObject(key))
+            objectKeys.set(key, value);
+        else
+            setPrimitive(key, value);
+    }
+
+    void delete(Object key)
+    {
+        if (isObject(key))
+        {
+            objectKeys.delete(key);
+            return;
+        }
+
+        primitiveKeys.delete(key);
+        oldPrimitiveKeys.delete(key);
+    }
+
+    private void setPrimitive(Object key, V value)
+    {
+        if (primitiveKeys.size >= MAX_PRIMITIVE_KEYS)
+        {
+            oldPrimitiveKeys = primitiveKeys;
+            primitiveKeys = new JsMap<>();
+        }
+        primitiveKeys.set(key, value);
+    }
+
+    private static boolean isObject(Object key)
+    {
+        if (key == null)
+            return false;
+
+        String type = Js.typeof(key);
+        return "object".equals(type) || "function".equals(type);
+    }
+}
@@ -0,0 +1,212 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import com.axellience.vuegwt.core.client.jsnative.jsfunctions.JsRunnable;
+import com.axellience.vuegwt.core.client.jsnative.jstypes.JsMap;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.core.JsObject;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Cache the value of template expressions calling a {@link
+ * com.axellience.vuegwt.core.annotations.component.Pure} method.
+ * <br>
+ * For those expressions, the template processor replaces <code>{{ exp$3(item) }}</code> with
+ * <code>{{ vuegwt$pure(_self, 'exp$3', item) }}</code>. Each instance, expression and loop
+ * variables values get their own lazy Vue watcher, the same kind of watcher Vue uses for computed
+ * properties. The expression is only evaluated again when one of the reactive properties it read
+ * changes.
+ * <br>
+ * Those watchers are not registered on the instance. After each render of the instance, the
+ * watchers that were not used by the render are torn down and removed from the cache, so the
+ * values of removed rows can be garbage collected. The remaining ones are torn down when the
+ * instance is destroyed.
+ * @author Adrien Baron
+ */
+public class PureExpressionsCache
+{
+    private static final String CACHE_PROPERTY = "vuegwt$pureCache";
+    private static final String WATCHERS_PROPERTY = "vuegwt$pureWatchers";
+    private static final String GET_VALUE_PROPERTY = "vuegwt$pure";
+    private static final String USED_FLAG = "vuegwt$used";
+    private static final String ARG0_CACHE = "vuegwt$arg0Cache";
+    private static final String ARG1 = "vuegwt$arg1";
+    private static final GetValueFunction GET_VALUE = PureExpressionsCache::getValue;
+
+    private static Function watcherConstructor;
+
+    /**
+     * Make the cached expressions available to templates evaluated on the given object.
+     * @param target The object to register on, usually Vue prototype
+     */
+    public static void register(JsPropertyMap<Object> target)
+    {
+        target.set(GET_VALUE_PROPERTY, GET_VALUE);
+    }
+
+    /**
+     * Return the value of a pure expression, evaluating it only if one of its dependencies
+     * changed.
+     * @param instance The Component instance the template is rendered for
+     * @param expressionId The name of the expression method on the instance
+     * @param arg0 The value of the first loop variable passed to the expression, if any
+     * @param arg1 The value of the second loop variable passed to the expression, if any
+     * @return The value of the expression
+     */
+    private static Object getValue(Object instance, String expressionId, Object arg0, Object arg1)
+    {
+        JsPropertyMap<Object> instanceMap = Js.cast(instance);
+        Function expression = Js.cast(instanceMap.get(expressionId));
+
+        // Functional Components don't have watchers, nothing to cache on
+        Object renderWatcher = instanceMap.get("_watcher");
+        if (renderWatcher == null)
+            return expression.call(instance, arg0, arg1);
+
+        JsMap<String, KeyCache<KeyCache<JsPropertyMap<Object>>>> instanceCache =
+            Js.cast(instanceMap.get(CACHE_PROPERTY));
+        if (instanceCache == null)
+        {
+            instanceCache = new JsMap<>();
+            instanceMap.set(CACHE_PROPERTY, instanceCache);
+            initWatchers(instanceMap);
+        }
+
+        KeyCache<KeyCache<JsPropertyMap<Object>>> expressionCache =
+            instanceCache.get(expressionId);
+        if (expressionCache == null)
+        {
+            expressionCache = new KeyCache<>();
+            instanceCache.set(expressionId, expressionCache);
+        }
+
+        KeyCache<JsPropertyMap<Object>> arg0Cache = expressionCache.get(arg0);
+        if (arg0Cache == null)
+        {
+            arg0Cache = new KeyCache<>();
+            expressionCache.set(arg0, arg0Cache);
+        }
+
+        JsPropertyMap<Object> watcher = arg0Cache.get(arg1);
+        if (watcher == null)
+        {
+            ExpressionGetter getter = () -> expression.call(instance, arg0, arg1);
+            watcher = createLazyWatcher(instance, renderWatcher, getter);
+            watcher.set(ARG0_CACHE, arg0Cache);
+            watcher.set(ARG1, arg1);
+            arg0Cache.set(arg1, watcher);
+            JsArray<JsPropertyMap<Object>> watchers = Js.cast(instanceMap.get(WATCHERS_PROPERTY));
+            watchers.push(watcher);
+        }
+        watcher.set(USED_FLAG, true);
+
+        // Same as the getter of Vue computed properties
+        if (Js.isTruthy(watcher.get("dirty")))
+            ((Function) watcher.get("evaluate")).call(watcher);
+        ((Function) watcher.get("depend")).call(watcher);
+
+        return watcher.get("value");
+    }
+
+    /**
+     * Keep track of the watchers of the instance, to tear down those not used by the last render
+     * and all of them when the instance is destroyed.
+     * @param instanceMap The Component instance
+     */
+    private static void initWatchers(JsPropertyMap<Object> instanceMap)
+    {
+        instanceMap.set(WATCHERS_PROPERTY, new JsArray<>());
+
+        Function on = Js.cast(instanceMap.get("$on"));
+        JsRunnable removeUnusedWatchers = () -> removeUnusedWatchers(instanceMap);
+        JsRunnable removeAllWatchers = () -> {
+            JsArray<JsPropertyMap<Object>> watchers =
+                Js.cast(instanceMap.get(WATCHERS_PROPERTY));
+            for (int i = 0; i < watchers.length; i++)
+                teardown(watchers.getAt(i));
+            instanceMap.delete(WATCHERS_PROPERTY);
+            instanceMap.delete(CACHE_PROPERTY);
+        };
+        on.call(instanceMap, "hook:mounted", removeUnusedWatchers);
+        on.call(instanceMap, "hook:updated", removeUnusedWatchers);
+        on.call(instanceMap, "hook:destroyed", removeAllWatchers);
+    }
+
+    private static void removeUnusedWatchers(JsPropertyMap<Object> instanceMap)
+    {
+        JsArray<JsPropertyMap<Object>> watchers = Js.cast(instanceMap.get(WATCHERS_PROPERTY));
+        if (watchers == null)
+            return;
+
+        JsArray<JsPropertyMap<Object>> usedWatchers = new JsArray<>();
+        for (int i = 0; i < watchers.length; i++)
+        {
+            JsPropertyMap<Object> watcher = watchers.getAt(i);
+            if (Js.isTruthy(watcher.get(USED_FLAG)))
+            {
+                watcher.delete(USED_FLAG);
+                usedWatchers.push(watcher);
+                continue;
+            }
+
+            teardown(watcher);
+            KeyCache<JsPropertyMap<Object>> arg0Cache = Js.cast(watcher.get(ARG0_CACHE));
+            // The cache might already have a newer watcher for the same key
+            if (arg0Cache.get(watcher.get(ARG1)) == watcher)
+                arg0Cache.delete(watcher.get(ARG1));
+        }
+        instanceMap.set(WATCHERS_PROPERTY, usedWatchers);
+    }
+
+    private static void teardown(JsPropertyMap<Object> watcher)
+    {
+        ((Function) watcher.get("teardown")).call(watcher);
+    }
+
+    /**
+     * Create a lazy Vue watcher on the given instance.
+     * Vue doesn't expose its Watcher constructor, so we get it from the render watcher of the
+     * instance.
+     * The Watcher constructor registers it on the instance, we remove it so it's not kept until
+     * the instance is destroyed.
+     * @param instance The Component instance to create the watcher on
+     * @param renderWatcher The render watcher of the instance
+     * @param getter The function evaluated by the watcher
+     * @return The created watcher
+     */
+    private static JsPropertyMap<Object> createLazyWatcher(Object instance, Object renderWatcher,
+        ExpressionGetter getter)
+    {
+        if (watcherConstructor == null)
+            watcherConstructor = Js.cast(((JsPropertyMap) renderWatcher).get("constructor"));
+
+        JsObject watcher = new JsObject();
+        watcher.__proto__ = Js.cast(((JsPropertyMap) watcherConstructor).get("prototype"));
+
+        JsRunnable noop = () -> {
+        };
+        watcherConstructor.call(watcher, instance, getter, noop, JsPropertyMap.of("lazy", true));
+
+        JsArray<Object> instanceWatchers = Js.cast(((JsPropertyMap) instance).get("_watchers"));
+        if (instanceWatchers.getAt(instanceWatchers.length - 1) == watcher)
+            instanceWatchers.pop();
+
+        return Js.cast(watcher);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface ExpressionGetter
+    {
+        Object get();
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface GetValueFunction
+    {
+        Object getValue(Object instance, String expressionId, Object arg0, Object arg1);
+    }
+}
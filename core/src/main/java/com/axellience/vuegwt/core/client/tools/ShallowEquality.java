@@ -0,0 +1,92 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import elemental2.core.JsArray;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Compare values without going deeper than their first level.
+ * @author Adrien Baron
+ */
+public final class ShallowEquality
+{
+    private ShallowEquality()
+    {
+    }
+
+    /**
+     * Return whether two values are shallowly equal.
+     * They are if they are the same object, equal Strings, numbers or booleans, Lists or JsArray
+     * with the same elements in the same order, or Maps with the same keys associated to the
+     * same values. Elements and values are compared by reference.
+     * @param a The first value
+     * @param b The second value
+     * @return true if they are shallowly equal, false otherwise
+     */
+    public static boolean isShallowEqual(Object a, Object b)
+    {
+        if (a == b)
+            return true;
+
+        if (a == null || b == null)
+            return false;
+
+        if (a instanceof String || a instanceof Number || a instanceof Boolean)
+            return Objects.equals(a, b);
+
+        if (a instanceof List && b instanceof List)
+            return isShallowEqualList((List<?>) a, (List<?>) b);
+
+        if (a instanceof Map && b instanceof Map)
+            return isShallowEqualMap((Map<?, ?>) a, (Map<?, ?>) b);
+
+        if (JsArray.isArray(a) && JsArray.isArray(b))
+            return isShallowEqualJsArray((JsArray<?>) a, (JsArray<?>) b);
+
+        return false;
+    }
+
+    private static boolean isShallowEqualList(List<?> a, List<?> b)
+    {
+        if (a.size() != b.size())
+            return false;
+
+        Iterator<?> iteratorB = b.iterator();
+        for (Object elementA : a)
+        {
+            if (elementA != iteratorB.next())
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isShallowEqualMap(Map<?, ?> a, Map<?, ?> b)
+    {
+        if (a.size() != b.size())
+            return false;
+
+        for (Entry<?, ?> entryA : a.entrySet())
+        {
+            if (!b.containsKey(entryA.getKey()) || entryA.getValue() != b.get(entryA.getKey()))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isShallowEqualJsArray(JsArray<?> a, JsArray<?> b)
+    {
+        if (a.length != b.length)
+            return false;
+
+        for (int i = 0; i < a.length; i++)
+        {
+            if (a.getAt(i) != b.getAt(i))
+                return false;
+        }
+        return true;
+    }
+}
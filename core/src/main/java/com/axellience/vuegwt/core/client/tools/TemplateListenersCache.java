@@ -0,0 +1,104 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import com.axellience.vuegwt.core.client.jsnative.jsfunctions.JsRunnable;
+import com.axellience.vuegwt.core.client.jsnative.jstypes.JsMap;
+import elemental2.core.Function;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Cache the listeners of event bindings that only depend on v-for loop variables.
+ * <br>
+ * For those bindings, the template processor replaces <code>@click="exp$3(item)"</code> with
+ * <code>v-on="vuegwt$on(_self, 'click', 'exp$3', item)"</code>. The listeners object is
+ * created once per instance, expression and loop variables values, and then reused on each
+ * render. This avoids creating a new closure for each row on each render.
+ * @author Adrien Baron
+ */
+public class TemplateListenersCache
+{
+    private static final String CACHE_PROPERTY = "vuegwt$listenersCache";
+    private static final String GET_LISTENERS_PROPERTY = "vuegwt$on";
+    private static final GetListenersFunction GET_LISTENERS =
+        TemplateListenersCache::getListeners;
+
+    /**
+     * Make the cached listeners available to templates evaluated on the given object.
+     * @param target The object to register on, usually Vue prototype
+     */
+    public static void register(JsPropertyMap<Object> target)
+    {
+        target.set(GET_LISTENERS_PROPERTY, GET_LISTENERS);
+    }
+
+    /**
+     * Return the listeners object for a given event binding, creating it if necessary.
+     * @param instance The Component instance the template is rendered for
+     * @param eventName The name of the event
+     * @param methodName The name of the method to call on the instance when the event occurs
+     * @param arg0 The value of the first loop variable passed to the method
+     * @param arg1 The value of the second loop variable passed to the method, if any
+     * @return An object with the event name as key and the listener as value
+     */
+    private static JsPropertyMap<Object> getListeners(Object instance, String eventName,
+        String methodName, Object arg0, Object arg1)
+    {
+        JsPropertyMap<Object> instanceMap = Js.cast(instance);
+
+        // Functional Components get a new render context on each render, nothing to cache on
+        if (instanceMap.get("_watcher") == null)
+            return createListeners(instance, eventName, methodName, arg0, arg1);
+
+        JsMap<String, KeyCache<KeyCache<JsPropertyMap<Object>>>> instanceCache =
+            Js.cast(instanceMap.get(CACHE_PROPERTY));
+        if (instanceCache == null)
+        {
+            instanceCache = new JsMap<>();
+            instanceMap.set(CACHE_PROPERTY, instanceCache);
+        }
+
+        KeyCache<KeyCache<JsPropertyMap<Object>>> methodCache = instanceCache.get(methodName);
+        if (methodCache == null)
+        {
+            methodCache = new KeyCache<>();
+            instanceCache.set(methodName, methodCache);
+        }
+
+        KeyCache<JsPropertyMap<Object>> arg0Cache = methodCache.get(arg0);
+        if (arg0Cache == null)
+        {
+            arg0Cache = new KeyCache<>();
+            methodCache.set(arg0, arg0Cache);
+        }
+
+        JsPropertyMap<Object> listeners = arg0Cache.get(arg1);
+        if (listeners == null)
+        {
+            listeners = createListeners(instance, eventName, methodName, arg0, arg1);
+            arg0Cache.set(arg1, listeners);
+        }
+
+        return listeners;
+    }
+
+    private static JsPropertyMap<Object> createListeners(Object instance, String eventName,
+        String methodName, Object arg0, Object arg1)
+    {
+        JsRunnable listener = () -> {
+            Function method = Js.cast(Js.asPropertyMap(instance).get(methodName));
+            method.call(instance, arg0, arg1);
+        };
+        JsPropertyMap<Object> listeners = JsPropertyMap.of();
+        listeners.set(eventName, listener);
+        return listeners;
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface GetListenersFunction
+    {
+        JsPropertyMap<Object> getListeners(Object instance, String eventName, String methodName,
+            Object arg0, Object arg1);
+    }
+}
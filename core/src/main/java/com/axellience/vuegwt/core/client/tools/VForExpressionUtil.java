@@ -1,22 +1,36 @@
 package com.axellience.vuegwt.core.client.tools;
 
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
+import com.axellience.vuegwt.core.client.observer.reactivecollections.JsArrayList;
+import com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveCollection;
+import com.axellience.vuegwt.core.client.observer.reactivecollections.ReactiveHashMap;
 import elemental2.core.JsArray;
+import elemental2.core.JsObject;
 import jsinterop.base.Any;
 import jsinterop.base.Js;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class VForExpressionUtil
 {
     public static <T> Any vForExpressionFromJava(Collection<T> collection)
     {
-        return Js.asAny(JsUtils.arrayFrom(collection));
+        if (collection instanceof JsArrayList)
+            return Js.asAny(((JsArrayList<T>) collection).getJsArray());
+
+        return Js.asAny(getSnapshot(collection, () -> JsUtils.arrayFrom(collection)));
     }
 
     public static <K, V> Any vForExpressionFromJava(Map<K, V> collection)
     {
-        return Js.asAny(JsUtils.arrayFrom(collection));
+        if (collection instanceof ReactiveHashMap)
+            return Js.asAny(((ReactiveHashMap<K, V>) collection).getValuesJsArray());
+
+        return Js.asAny(getSnapshot(collection, () -> JsUtils.arrayFrom(collection)));
     }
 
     public static <T> Any vForExpressionFromJava(JsArray<T> collection)
@@ -53,4 +67,38 @@ public class VForExpressionUtil
     {
         return Js.asAny(value);
     }
+
+    /**
+     * Return an array copy of the given Java Collection/Map.
+     * If the Collection is observed, the copy is cached on its observer and reused until the
+     * Collection is modified. This avoid copying big Collections each time a Component is
+     * rendered.
+     * The cached copy can be passed around by the template, for example to a child Component
+     * prop. It is frozen, and never modified: when the Collection changes, a new copy is made.
+     * Only the {@link ReactiveCollection}s are cached, as they notify their observer on all their
+     * changes. Other Collections can be changed without notifying, for example with
+     * {@link List#sort} or through their iterators, so they are copied each time.
+     * @param collection The Collection or Map we iterate on
+     * @param arrayBuilder Build an array copy of the Collection
+     * @param <T> The type of elements in the array
+     * @return An array with the elements of the Collection
+     */
+    private static <T> JsArray<T> getSnapshot(Object collection, Supplier<JsArray<T>> arrayBuilder)
+    {
+        if (!(collection instanceof ReactiveCollection))
+            return arrayBuilder.get();
+
+        VueObserver observer = VueGWTObserverManager.get().getVueObserver(collection);
+        if (observer == null)
+            return arrayBuilder.get();
+
+        JsArray<T> snapshot = observer.getSnapshot();
+        if (snapshot == null)
+        {
+            snapshot = arrayBuilder.get();
+            JsObject.freeze(snapshot);
+            observer.setSnapshot(snapshot);
+        }
+        return snapshot;
+    }
 }
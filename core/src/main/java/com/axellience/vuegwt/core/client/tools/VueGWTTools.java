@@ -1,23 +1,41 @@
 package com.axellience.vuegwt.core.client.tools;
 
 import com.axellience.vuegwt.core.client.component.ComponentJavaPrototype;
+import com.axellience.vuegwt.core.client.Vue;
 import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.vue.VueErrorHandler;
 import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
 import elemental2.core.Function;
+import elemental2.core.JsArray;
 import elemental2.core.JsObject;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLScriptElement;
 import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsMethod;
+import jsinterop.base.Js;
 import jsinterop.base.JsPropertyMap;
 
+import java.util.Arrays;
+
 /**
  * This object provides utils methods for VueGWT internal processing
  * @author Adrien Baron
  */
 public class VueGWTTools
 {
+    private static boolean isWithThisInjected = false;
+    private static final String HAS_RENDER_HELPERS = "vuegwt$hasRenderHelpers";
+    private static JsObject javaObjectBridge;
+
     /**
-     * Copy a Java class prototype to a VueComponent declaration. This allows
-     * VueComponent created by Vue to pass as an instance of the VueComponent
-     * class they implement.
+     * Link a Java class prototype in the prototype chain of a VueComponent
+     * declaration. This allows VueComponent created by Vue to pass as an
+     * instance of the VueComponent class they implement.
+     * <br>
+     * Nothing is copied. The Vue constructor prototype inherits directly from the Java
+     * prototype, and the root of the Java Component prototypes inherits from the Vue.js base
+     * prototype. This is only done once for the whole Java hierarchy, as it is shared by all the
+     * Components.
      * @param extendedVueJsConstructor The Vue.js constructor function to extend
      * @param componentJavaPrototype The VueComponent class JS prototype to
      * extend with
@@ -27,13 +45,454 @@ public class VueGWTTools
         VueJsConstructor<T> extendedVueJsConstructor,
         ComponentJavaPrototype<T> componentJavaPrototype)
     {
-        JsPropertyMap vueProto =
-            (JsPropertyMap) ((JsPropertyMap) extendedVueJsConstructor).get("prototype");
-        JsObject vueProtoJsObject = ((JsObject) vueProto);
-        componentJavaPrototype.forEach(protoProp -> {
-            if (!vueProtoJsObject.hasOwnProperty(protoProp))
-                vueProto.set(protoProp, componentJavaPrototype.get(protoProp));
-        });
+        JsObject vueProto =
+            (JsObject) ((JsPropertyMap) extendedVueJsConstructor).get("prototype");
+        JsObject javaProto = Js.cast(componentJavaPrototype);
+
+        linkJavaRootToVue(javaProto, getVueBasePrototype(vueProto));
+        vueProto.__proto__ = javaProto;
+    }
+
+    /**
+     * Return the prototype of the Vue constructor, the last one before Object.prototype.
+     * @param vueProto A Vue constructor prototype
+     * @return The Vue.js base prototype
+     */
+    private static JsObject getVueBasePrototype(JsObject vueProto)
+    {
+        JsObject objectProto = new JsObject().__proto__;
+        JsObject proto = vueProto;
+        while (proto.__proto__ != null && proto.__proto__ != objectProto)
+            proto = Js.cast(proto.__proto__);
+
+        return proto;
+    }
+
+    /**
+     * Make the root of the Java Component prototypes inherit from the Vue.js base prototype.
+     * Java Components either extend Object.prototype directly, or the prototype of
+     * java.lang.Object. In that last case we insert a bridge holding the java.lang.Object
+     * methods, so other Java objects don't inherit from Vue.
+     * @param javaProto The Java prototype of a Component
+     * @param vueBaseProto The Vue.js base prototype
+     */
+    private static void linkJavaRootToVue(JsObject javaProto, JsObject vueBaseProto)
+    {
+        JsObject objectProto = new JsObject().__proto__;
+        JsObject javaObjectProto = Js.<JsObject>cast(new Object()).__proto__;
+
+        JsObject root = javaProto;
+        while (root.__proto__ != null
+            && root.__proto__ != vueBaseProto
+            && root.__proto__ != objectProto
+            && root.__proto__ != javaObjectProto)
+        {
+            root = Js.cast(root.__proto__);
+        }
+
+        if (root.__proto__ == vueBaseProto || root.__proto__ == null)
+            return;
+
+        if (root.__proto__ == objectProto)
+        {
+            root.__proto__ = vueBaseProto;
+            return;
+        }
+
+        if (javaObjectBridge == null)
+        {
+            javaObjectBridge = new JsObject();
+            JsPropertyMap<Object> bridgeMap = Js.cast(javaObjectBridge);
+            JsPropertyMap<Object> javaObjectProtoMap = Js.cast(javaObjectProto);
+            javaObjectProtoMap.forEach(key -> {
+                if (javaObjectProto.hasOwnProperty(key))
+                    bridgeMap.set(key, javaObjectProtoMap.get(key));
+            });
+            javaObjectBridge.__proto__ = vueBaseProto;
+        }
+        root.__proto__ = javaObjectBridge;
+    }
+
+    /**
+     * Wrap the render function of a functional Component.
+     * Vue.js calls the render function of functional Components with a render context instead of
+     * an instance. We call the render function on an object holding the props and the instance
+     * properties used by the template ($props, $slots, $listeners, $parent...). This object
+     * inherits from a prototype created once per Component, holding the render helpers and
+     * $emit, and inheriting from our Java prototype.
+     * @param renderFunction The render function of the Component
+     * @param componentJavaPrototype The VueComponent class JS prototype
+     * @param <T> The type of the VueComponent
+     * @return A render function for Vue.js functional Components
+     */
+    public static <T extends VueComponent> Function createFunctionalRenderFunction(
+        Function renderFunction, ComponentJavaPrototype<T> componentJavaPrototype)
+    {
+        JsObject renderContextPrototype =
+            createFunctionalRenderContextPrototype(componentJavaPrototype);
+        FunctionalRenderFunction functionalRenderFunction = (createElement, context) -> {
+            JsPropertyMap<Object> renderContext =
+                createFunctionalRenderContext(context, renderContextPrototype);
+            return renderFunction.call(renderContext, renderContext.get("_c"));
+        };
+        return Js.cast(functionalRenderFunction);
+    }
+
+    private static <T extends VueComponent> JsObject createFunctionalRenderContextPrototype(
+        ComponentJavaPrototype<T> componentJavaPrototype)
+    {
+        JsObject renderContextPrototype = new JsObject();
+        renderContextPrototype.__proto__ = Js.cast(componentJavaPrototype);
+        JsPropertyMap<Object> prototypeMap = Js.cast(renderContextPrototype);
+
+        // Vue.js defines $props as a getter on its prototype, we shadow it to set it per render
+        JsPropertyMap<Object> propsDescriptor = JsPropertyMap.of();
+        propsDescriptor.set("value", null);
+        propsDescriptor.set("writable", true);
+        JsObject.defineProperty(renderContextPrototype, "$props", Js.cast(propsDescriptor));
+
+        TemplateListenersCache.register(prototypeMap);
+        PureExpressionsCache.register(prototypeMap);
+        prototypeMap.set("$emit", withThis((self, args) -> {
+            JsPropertyMap<Object> listeners = Js.cast(Js.asPropertyMap(self).get("$listeners"));
+            Object listener = listeners.get((String) args[0]);
+            if (listener == null)
+                return null;
+
+            Object[] listenerArgs = Arrays.copyOfRange(args, 1, args.length);
+            if (JsArray.isArray(listener))
+            {
+                JsArray<Function> listenersArray = Js.cast(listener);
+                for (int i = 0; i < listenersArray.length; i++)
+                    listenersArray.getAt(i).apply(null, listenerArgs);
+            }
+            else
+            {
+                ((Function) listener).apply(null, listenerArgs);
+            }
+            return null;
+        }));
+
+        return renderContextPrototype;
+    }
+
+    private static JsPropertyMap<Object> createFunctionalRenderContext(
+        JsPropertyMap<Object> context, JsObject renderContextPrototype)
+    {
+        JsPropertyMap<Object> prototypeMap = Js.cast(renderContextPrototype);
+        if (!renderContextPrototype.hasOwnProperty(HAS_RENDER_HELPERS))
+        {
+            // Render helpers are inherited by the Vue.js context, they are the same on each render
+            JsObject contextObject = Js.cast(context);
+            context.forEach(key -> {
+                if (!contextObject.hasOwnProperty(key))
+                    prototypeMap.set(key, context.get(key));
+            });
+            prototypeMap.set(HAS_RENDER_HELPERS, true);
+        }
+
+        JsObject renderContextObject = new JsObject();
+        renderContextObject.__proto__ = renderContextPrototype;
+        JsPropertyMap<Object> renderContext = Js.cast(renderContextObject);
+
+        // Props are accessed as fields of our Component
+        JsPropertyMap<Object> props = Js.cast(context.get("props"));
+        props.forEach(key -> renderContext.set(key, props.get(key)));
+
+        renderContext.set("$props", props);
+        renderContext.set("$listeners", context.get("listeners"));
+        renderContext.set("$parent", context.get("parent"));
+        renderContext.set("$slots", context.get("$slots"));
+        renderContext.set("$scopedSlots", context.get("$scopedSlots"));
+        renderContext.set("$options", context.get("$options"));
+        renderContext.set("children", context.get("children"));
+        renderContext.set("data", context.get("data"));
+        renderContext.set("_self", renderContext);
+        renderContext.set("_renderProxy", renderContext);
+        renderContext.set("_c", resolveLocalComponents(context));
+
+        return renderContext;
+    }
+
+    /**
+     * Return a createElement function resolving the local Components of the functional
+     * Component.
+     * @param context The Vue.js render context
+     * @return The createElement function to use in the render function
+     */
+    private static Object resolveLocalComponents(JsPropertyMap<Object> context)
+    {
+        Function contextCreateElement = Js.cast(context.get("_c"));
+        JsPropertyMap<Object> options = Js.cast(context.get("$options"));
+        JsPropertyMap<Object> localComponents = Js.cast(options.get("components"));
+        if (localComponents == null || JsObject.keys(localComponents).length == 0)
+            return contextCreateElement;
+
+        CreateElement createElement = (tag, data, children, normalizationType) -> {
+            Object resolvedTag = tag;
+            if (tag instanceof String && localComponents.has((String) tag))
+                resolvedTag = localComponents.get((String) tag);
+
+            return contextCreateElement.call(null,
+                resolvedTag,
+                data,
+                children,
+                normalizationType);
+        };
+        return createElement;
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface FunctionalRenderFunction
+    {
+        Object render(Object createElement, JsPropertyMap<Object> context);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface CreateElement
+    {
+        Object create(Object tag, Object data, Object children, Object normalizationType);
+    }
+
+    /**
+     * Create a mixin with a lifecycle hook calling the given callback with the instance.
+     * This is useful to add a hook without replacing the one declared by the Component.
+     * @param hookName The name of the hook, for example "created"
+     * @param callback The callback to call with the instance
+     * @return A mixin to add to Component options
+     */
+    public static Object createHookMixin(String hookName, HookCallback callback)
+    {
+        return JsPropertyMap.of(hookName, withThis((vm, args) -> {
+            callback.onHook(vm);
+            return null;
+        }));
+    }
+
+    /**
+     * Create a JS function passing its "this" as first parameter to the given function.
+     * Vue.js calls hooks, render functions and listeners with the instance as "this", which
+     * Java lambdas can't access.
+     * @param function The function to call with "this" and the arguments
+     * @return A JS function that can be passed to Vue.js
+     */
+    public static Function withThis(ThisFunction function)
+    {
+        ensureWithThisInjected();
+        return withThisNative(function);
+    }
+
+    @JsMethod(namespace = "VueGWT", name = "vuegwt$withThis")
+    private static native Function withThisNative(ThisFunction function);
+
+    /**
+     * Create a JS getter passing its "this" to the given function.
+     * Contrary to {@link #withThis(ThisFunction)}, nothing is allocated when it's called. Use it
+     * for accessors on hot paths.
+     * @param getter The function to call with "this"
+     * @return A JS function that can be used as a property getter
+     */
+    public static Function getterWithThis(ThisGetter getter)
+    {
+        ensureWithThisInjected();
+        return getterWithThisNative(getter);
+    }
+
+    @JsMethod(namespace = "VueGWT", name = "vuegwt$getterWithThis")
+    private static native Function getterWithThisNative(ThisGetter getter);
+
+    /**
+     * Create a JS setter passing its "this" and the new value to the given function.
+     * Contrary to {@link #withThis(ThisFunction)}, nothing is allocated when it's called. Use it
+     * for accessors on hot paths.
+     * @param setter The function to call with "this" and the new value
+     * @return A JS function that can be used as a property setter
+     */
+    public static Function setterWithThis(ThisSetter setter)
+    {
+        ensureWithThisInjected();
+        return setterWithThisNative(setter);
+    }
+
+    @JsMethod(namespace = "VueGWT", name = "vuegwt$setterWithThis")
+    private static native Function setterWithThisNative(ThisSetter setter);
+
+    /**
+     * Call the hooks of the given instance, the same way Vue.js does. Errors thrown by the hooks
+     * are given to {@link #handleError(Object, Object, String)}, so they don't prevent the other
+     * hooks from being called.
+     * @param vm The Component instance
+     * @param hookName The name of the hook, for example "updated"
+     */
+    public static void callHook(Object vm, String hookName)
+    {
+        JsPropertyMap<Object> vmMap = Js.cast(vm);
+        JsPropertyMap<Object> options = Js.cast(vmMap.get("$options"));
+        JsArray<Function> hooks = Js.cast(options.get(hookName));
+        if (hooks != null)
+        {
+            for (int i = 0; i < hooks.length; i++)
+            {
+                tryCall(hooks.getAt(i),
+                    vm,
+                    new Object[] {},
+                    error -> handleError(error, vm, hookName + " hook"));
+            }
+        }
+
+        // Listeners added with $on("hook:...", ...)
+        if (Js.isTruthy(vmMap.get("_hasHookEvent")))
+            ((Function) vmMap.get("$emit")).call(vm, "hook:" + hookName);
+    }
+
+    /**
+     * Handle an error thrown in a Component, the same way Vue.js does for errors in its hooks.
+     * The errorCaptured hooks of the parents are called first, closest first. If none of them
+     * returns false, the error is given to the global Vue error handler, or logged in the
+     * console if there is none.
+     * @param error The error thrown, as it was thrown
+     * @param vm The Component instance the error was thrown in
+     * @param info Where the error was thrown, for example "updated hook"
+     */
+    public static void handleError(Object error, Object vm, String info)
+    {
+        JsPropertyMap<Object> parent = Js.cast(Js.asPropertyMap(vm).get("$parent"));
+        while (parent != null)
+        {
+            if (isErrorCaptured(parent, error, vm, info))
+                return;
+
+            parent = Js.cast(parent.get("$parent"));
+        }
+
+        globalHandleError(error, vm, info);
+    }
+
+    private static boolean isErrorCaptured(JsPropertyMap<Object> parent, Object error, Object vm,
+        String info)
+    {
+        JsPropertyMap<Object> options = Js.cast(parent.get("$options"));
+        JsArray<Function> errorCapturedHooks = Js.cast(options.get("errorCaptured"));
+        if (errorCapturedHooks == null)
+            return false;
+
+        for (int i = 0; i < errorCapturedHooks.length; i++)
+        {
+            Object result = tryCall(errorCapturedHooks.getAt(i),
+                parent,
+                new Object[] { error, vm, info },
+                hookError -> globalHandleError(hookError, parent, "errorCaptured hook"));
+            if (Js.isTripleEqual(result, false))
+                return true;
+        }
+        return false;
+    }
+
+    private static void globalHandleError(Object error, Object vm, String info)
+    {
+        VueErrorHandler errorHandler = Vue.getConfig().getErrorHandler();
+        if (errorHandler != null)
+        {
+            boolean[] hasHandlerFailed = { false };
+            tryCall(Js.cast(errorHandler), null, new Object[] { error, vm, info }, handlerError -> {
+                hasHandlerFailed[0] = true;
+                DomGlobal.console.error(handlerError);
+            });
+            if (!hasHandlerFailed[0])
+                return;
+        }
+
+        DomGlobal.console.error(error);
+    }
+
+    /**
+     * Call the given JS function, catching what it throws as it was thrown. Contrary to a Java
+     * try/catch, JS errors are not wrapped in a Java exception.
+     * @param function The function to call
+     * @param self The "this" of the call
+     * @param args The arguments of the call
+     * @param onError Called with the error if the function throws
+     * @return The result of the call, or undefined if it threw
+     */
+    private static Object tryCall(Function function, Object self, Object[] args,
+        ErrorCallback onError)
+    {
+        ensureWithThisInjected();
+        return tryCallNative(function, self, args, onError);
+    }
+
+    @JsMethod(namespace = "VueGWT", name = "vuegwt$tryCall")
+    private static native Object tryCallNative(Function function, Object self, Object[] args,
+        ErrorCallback onError);
+
+    private static void ensureWithThisInjected()
+    {
+        if (isWithThisInjected)
+            return;
+
+        HTMLScriptElement scriptElement =
+            (HTMLScriptElement) DomGlobal.document.createElement("script");
+        scriptElement.text = "VueGWT.vuegwt$withThis = function (fn) {"
+            + "return function () {"
+            + "return fn(this, Array.prototype.slice.call(arguments));"
+            + "};"
+            + "};"
+            + "VueGWT.vuegwt$getterWithThis = function (fn) {"
+            + "return function () {"
+            + "return fn(this);"
+            + "};"
+            + "};"
+            + "VueGWT.vuegwt$setterWithThis = function (fn) {"
+            + "return function (value) {"
+            + "fn(this, value);"
+            + "};"
+            + "};"
+            + "VueGWT.vuegwt$tryCall = function (fn, self, args, onError) {"
+            + "try {"
+            + "return fn.apply(self, args);"
+            + "} catch (e) {"
+            + "onError(e);"
+            + "}"
+            + "};";
+        DomGlobal.document.body.appendChild(scriptElement);
+        isWithThisInjected = true;
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    public interface HookCallback
+    {
+        void onHook(Object vm);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    public interface ThisFunction
+    {
+        Object call(Object self, Object[] args);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface ErrorCallback
+    {
+        void onError(Object error);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    public interface ThisGetter
+    {
+        Object get(Object self);
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    public interface ThisSetter
+    {
+        void set(Object self, Object value);
     }
 
     /**
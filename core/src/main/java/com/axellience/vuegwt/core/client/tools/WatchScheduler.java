@@ -0,0 +1,123 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import elemental2.core.JsDate;
+import elemental2.dom.DomGlobal;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Delay the calls to watchers declared with a debounce or a throttle.
+ * <br>
+ * The generated JsType of a Component wraps those watchers in a method that calls {@link
+ * #debounce(Object, String, int, Runnable)} or {@link #throttle(Object, String, int,
+ * Runnable)}. The state of each watcher is stored on the Component instance.
+ * @author Adrien Baron
+ */
+public class WatchScheduler
+{
+    private static final String SCHEDULES_PROPERTY = "vuegwt$watchSchedules";
+
+    /**
+     * Call the watcher once no change happened for the given delay.
+     * @param instance The Component instance the watcher belongs to
+     * @param watcherName The name of the watcher method
+     * @param delayMs The delay in milliseconds
+     * @param watcherCall Call to the watcher with the latest values
+     */
+    public static void debounce(Object instance, String watcherName, int delayMs,
+        Runnable watcherCall)
+    {
+        Schedule schedule = getSchedule(instance, watcherName);
+        schedule.pendingCall = watcherCall;
+        schedule.clearTimeout();
+        schedule.setTimeout(instance, delayMs);
+    }
+
+    /**
+     * Call the watcher at most once for the given delay. The first change calls it right away,
+     * the following ones are grouped in one call at the end of the delay.
+     * @param instance The Component instance the watcher belongs to
+     * @param watcherName The name of the watcher method
+     * @param delayMs The delay in milliseconds
+     * @param watcherCall Call to the watcher with the latest values
+     */
+    public static void throttle(Object instance, String watcherName, int delayMs,
+        Runnable watcherCall)
+    {
+        Schedule schedule = getSchedule(instance, watcherName);
+        schedule.pendingCall = watcherCall;
+        if (schedule.hasTimeout())
+            return;
+
+        double remaining = delayMs - (JsDate.now() - schedule.lastCall);
+        if (remaining <= 0)
+            schedule.run(instance);
+        else
+            schedule.setTimeout(instance, remaining);
+    }
+
+    private static Schedule getSchedule(Object instance, String watcherName)
+    {
+        JsPropertyMap<Object> instanceMap = Js.cast(instance);
+        JsPropertyMap<Schedule> schedules = Js.cast(instanceMap.get(SCHEDULES_PROPERTY));
+        if (schedules == null)
+        {
+            schedules = Js.cast(JsPropertyMap.of());
+            instanceMap.set(SCHEDULES_PROPERTY, schedules);
+        }
+
+        Schedule schedule = schedules.get(watcherName);
+        if (schedule == null)
+        {
+            schedule = new Schedule();
+            schedules.set(watcherName, schedule);
+        }
+        return schedule;
+    }
+
+    private static class Schedule
+    {
+        private Runnable pendingCall;
+        private double timeoutId = -1;
+        private double lastCall = 0;
+
+        private boolean hasTimeout()
+        {
+            return timeoutId != -1;
+        }
+
+        private void setTimeout(Object instance, double delayMs)
+        {
+            timeoutId = DomGlobal.setTimeout(p0 -> {
+                timeoutId = -1;
+                run(instance);
+            }, delayMs);
+        }
+
+        private void clearTimeout()
+        {
+            if (!hasTimeout())
+                return;
+
+            DomGlobal.clearTimeout(timeoutId);
+            timeoutId = -1;
+        }
+
+        private void run(Object instance)
+        {
+            Runnable call = pendingCall;
+            pendingCall = null;
+            lastCall = JsDate.now();
+
+            // Don't call watchers on destroyed instances
+            if (call != null && !isDestroyed(instance))
+                call.run();
+        }
+
+        private static boolean isDestroyed(Object instance)
+        {
+            JsPropertyMap<Object> instanceMap = Js.cast(instance);
+            return Js.isTruthy(instanceMap.get("_isDestroyed"));
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package com.axellience.vuegwt.core.client.vue;
 
 import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.hooks.HasRecycle;
 import com.axellience.vuegwt.core.annotations.component.Component;
 import com.axellience.vuegwt.core.annotations.component.JsComponent;
+import com.axellience.vuegwt.core.client.tools.VueGWTTools;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.dom.Element;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A factory to create {@link VueComponent}s.
  * All the {@link Component} and {@link JsComponent} get a generated {@link VueFactory}.
  * It wraps a {@link VueJsConstructor} that is configured when the factory is created.
  * It can be injected with Gin or Dagger2.
+ * <br>
+ * Factories can keep a pool of instances of Components implementing {@link HasRecycle}. Instances
+ * given back with {@link #release(VueComponent)} are kept alive with their watchers paused, and
+ * returned by {@link #createAndMount(Element)} instead of creating new ones.
  * @author Adrien Baron
  */
 @JsType
@@ -17,13 +31,191 @@ public class VueFactory<T extends VueComponent>
 {
     protected VueJsConstructor<T> jsConstructor;
 
+    private final List<T> pool = new ArrayList<>();
+    private int poolSize = 0;
+
+    /**
+     * Create a new instance of the Component, not yet mounted.
+     * It never comes from the pool.
+     * @return A new instance of the Component
+     */
     public final T create()
     {
         return jsConstructor.instantiate();
     }
 
+    /**
+     * Return an instance of the Component mounted in place of the given element.
+     * If an instance is available in the pool, it is used, otherwise a new instance is created
+     * and mounted. Like with $mount, if the element is not in the DOM, the instance element is
+     * not inserted anywhere.
+     * @param element The element to replace with the instance
+     * @return An instance of the Component
+     */
+    public final T createAndMount(Element element)
+    {
+        if (pool.isEmpty())
+        {
+            T instance = create();
+            instance.$mount(element);
+            return instance;
+        }
+
+        T instance = pool.remove(pool.size() - 1);
+        if (element != null && element.parentNode != null)
+            element.parentNode.replaceChild(instance.$el(), element);
+
+        // Once in the DOM, so it's re-rendered in place
+        resume(instance);
+        return instance;
+    }
+
+    /**
+     * Give back an instance that is not used anymore.
+     * If the pool is full, or the Component doesn't implement {@link HasRecycle}, the instance is
+     * destroyed. Otherwise it is removed from the DOM and its watchers are paused, so changes
+     * don't re-render it while it's pooled. Its data fields are set back to the values they had
+     * when it was created, if it was created after pooling was enabled, and
+     * {@link HasRecycle#recycle()} is called to reset the rest of its state.
+     * <br>
+     * The deactivated hooks of the instance and its children are called when it's pooled, and
+     * their activated hooks when it's reused.
+     * @param instance The instance to release
+     */
+    public final void release(T instance)
+    {
+        Element element = instance.$el();
+        if (element != null && element.parentNode != null)
+            element.parentNode.removeChild(element);
+
+        if (pool.size() >= poolSize || !isMounted(instance) || !(instance instanceof HasRecycle))
+        {
+            instance.$destroy();
+            return;
+        }
+
+        pause(instance);
+        instance.$options().resetData(instance);
+        ((HasRecycle) instance).recycle();
+
+        pool.add(instance);
+    }
+
+    /**
+     * Set the maximum number of instances kept in the pool. Instances over this number are
+     * destroyed.
+     * @param poolSize The maximum number of pooled instances, 0 (no pooling) by default
+     */
+    public final void setPoolSize(int poolSize)
+    {
+        this.poolSize = poolSize;
+        if (poolSize > 0)
+            jsConstructor.getOptions().enableDataReset();
+
+        while (pool.size() > poolSize)
+            destroyPooled(pool.remove(pool.size() - 1));
+    }
+
+    public final int getPoolSize()
+    {
+        return poolSize;
+    }
+
     public VueJsConstructor<T> getJsConstructor()
     {
         return jsConstructor;
     }
+
+    private boolean isMounted(T instance)
+    {
+        return Js.isTruthy(Js.<JsPropertyMap<Object>>cast(instance).get("_isMounted"));
+    }
+
+    /**
+     * Deactivate the watchers of the instance and its children, and call their deactivated
+     * hooks. Watchers stay subscribed to their dependencies, but Vue.js doesn't run inactive
+     * watchers.
+     * @param instance The pooled instance
+     */
+    private void pause(T instance)
+    {
+        JsArray<JsPropertyMap<Object>> instances = getInstanceTree(instance);
+        for (int i = 0; i < instances.length; i++)
+        {
+            setWatchersActive(instances.getAt(i), false);
+            VueGWTTools.callHook(instances.getAt(i), "deactivated");
+        }
+    }
+
+    /**
+     * Reactivate the watchers of the instance and its children, and run them, as their
+     * dependencies might have changed while they were paused. Parents are run before their
+     * children, and in each instance, watchers are run in creation order, like Vue.js does:
+     * computed properties, then watchers, then the render watcher.
+     * @param instance The reused instance
+     */
+    private void resume(T instance)
+    {
+        // Reactivate all of them first, children removed by a parent render must be torn down
+        JsArray<JsPropertyMap<Object>> instances = getInstanceTree(instance);
+        for (int i = 0; i < instances.length; i++)
+            setWatchersActive(instances.getAt(i), true);
+
+        for (int i = 0; i < instances.length; i++)
+        {
+            JsPropertyMap<Object> vm = instances.getAt(i);
+            if (Js.isTruthy(vm.get("_isDestroyed")))
+                continue;
+
+            JsArray<JsPropertyMap<Object>> watchers = Js.cast(vm.get("_watchers"));
+            for (int j = 0; j < watchers.length; j++)
+            {
+                JsPropertyMap<Object> watcher = watchers.getAt(j);
+                if (Js.isTruthy(watcher.get("lazy")))
+                    watcher.set("dirty", true);
+                else
+                    ((Function) watcher.get("run")).call(watcher);
+            }
+            VueGWTTools.callHook(vm, "activated");
+        }
+    }
+
+    /**
+     * Destroy a pooled instance. Its watchers must be active, Vue.js only tears down active
+     * watchers.
+     * @param instance The pooled instance
+     */
+    private void destroyPooled(T instance)
+    {
+        JsArray<JsPropertyMap<Object>> instances = getInstanceTree(instance);
+        for (int i = 0; i < instances.length; i++)
+            setWatchersActive(instances.getAt(i), true);
+
+        instance.$destroy();
+    }
+
+    private void setWatchersActive(JsPropertyMap<Object> vm, boolean isActive)
+    {
+        JsArray<JsPropertyMap<Object>> watchers = Js.cast(vm.get("_watchers"));
+        for (int i = 0; i < watchers.length; i++)
+            watchers.getAt(i).set("active", isActive);
+    }
+
+    /**
+     * Return the given instance and all its descendants, parents first.
+     * @param instance The root instance
+     * @return The instances of the tree
+     */
+    private JsArray<JsPropertyMap<Object>> getInstanceTree(T instance)
+    {
+        JsArray<JsPropertyMap<Object>> instances = new JsArray<>();
+        instances.push(Js.<JsPropertyMap<Object>>cast(instance));
+        for (int i = 0; i < instances.length; i++)
+        {
+            JsArray<JsPropertyMap<Object>> children = Js.cast(instances.getAt(i).get("$children"));
+            for (int j = 0; j < children.length; j++)
+                instances.push(children.getAt(j));
+        }
+        return instances;
+    }
 }
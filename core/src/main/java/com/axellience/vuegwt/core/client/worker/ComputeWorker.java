@@ -0,0 +1,170 @@
+package com.axellience.vuegwt.core.client.worker;
+
+import com.axellience.vuegwt.core.client.jsnative.jstypes.JsMap;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Run computations in a Web Worker, for example for async computed properties.
+ * <br>
+ * The Worker script is a separate GWT module, compiled with the "sso" linker, whose entry point
+ * calls {@link #handle(Computation)}. Inputs and results are passed to and from the Worker by
+ * structured clone, so they must be plain JS values (JsObject, JsArray, typed arrays...).
+ * @param <I> The type of the computation input
+ * @param <O> The type of the computation result
+ * @author Adrien Baron
+ */
+public class ComputeWorker<I, O>
+{
+    private final Worker worker;
+    private final JsMap<Double, PendingComputation<O>> pendingComputations = new JsMap<>();
+    private double nextComputationId = 0;
+
+    /**
+     * Start a Web Worker.
+     * @param scriptUrl The URL of the Worker script
+     */
+    public ComputeWorker(String scriptUrl)
+    {
+        worker = new Worker(scriptUrl);
+        worker.addEventListener("message", event -> {
+            JsPropertyMap<Object> eventMap = Js.cast(event);
+            JsPropertyMap<Object> message = Js.cast(eventMap.get("data"));
+            Double computationId = Js.cast(message.get("id"));
+
+            PendingComputation<O> pendingComputation = pendingComputations.get(computationId);
+            if (pendingComputation == null)
+                return;
+            pendingComputations.delete(computationId);
+
+            if (message.has("error"))
+                pendingComputation.reject.onInvoke(message.get("error"));
+            else
+                pendingComputation.resolve.onInvoke(Js.<O>cast(message.get("result")));
+        });
+    }
+
+    /**
+     * Run a computation in the Worker.
+     * @param input The input of the computation
+     * @param transfer Buffers from the input to transfer to the Worker instead of copying
+     * them. They can't be used anymore in this thread.
+     * @return A Promise resolved with the result of the computation
+     */
+    public Promise<O> compute(I input, Object... transfer)
+    {
+        double computationId = nextComputationId++;
+        return new Promise<>((resolve, reject) -> {
+            pendingComputations.set(computationId, new PendingComputation<>(resolve, reject));
+            postMessage(worker,
+                JsPropertyMap.of("id", computationId, "input", input),
+                Js.<JsArray<Object>>uncheckedCast(transfer));
+        });
+    }
+
+    /**
+     * Stop the Worker. Pending computations are never resolved.
+     */
+    public void terminate()
+    {
+        worker.terminate();
+        pendingComputations.clear();
+    }
+
+    /**
+     * Answer computations from the Worker side. Call this from the entry point of the Worker
+     * module.
+     * @param computation The computation to run on each input
+     * @param <I> The type of the computation input
+     * @param <O> The type of the computation result
+     */
+    public static <I, O> void handle(Computation<I, O> computation)
+    {
+        JsPropertyMap<Object> workerScope = Js.global();
+        MessageListener listener = event -> {
+            JsPropertyMap<Object> message = Js.cast(event.get("data"));
+            JsPropertyMap<Object> response = JsPropertyMap.of("id", message.get("id"));
+            try
+            {
+                Result<O> result = computation.compute(Js.cast(message.get("input")));
+                response.set("result", result.getValue());
+                postMessage(workerScope, response, result.getTransfer());
+            }
+            catch (Exception e)
+            {
+                response.set("error", e.getMessage());
+                postMessage(workerScope, response, new JsArray<>());
+            }
+        };
+        workerScope.set("onmessage", listener);
+    }
+
+    private static void postMessage(Object target, Object message, JsArray<Object> transfer)
+    {
+        JsPropertyMap<Object> targetMap = Js.cast(target);
+        ((Function) targetMap.get("postMessage")).call(target, message, transfer);
+    }
+
+    /**
+     * A computation run in the Worker.
+     * @param <I> The type of the computation input
+     * @param <O> The type of the computation result
+     */
+    @FunctionalInterface
+    public interface Computation<I, O>
+    {
+        Result<O> compute(I input);
+    }
+
+    /**
+     * The result of a computation, with the buffers to transfer back instead of copying them.
+     * @param <O> The type of the computation result
+     */
+    public static class Result<O>
+    {
+        private final O value;
+        private final JsArray<Object> transfer;
+
+        public Result(O value, Object... transfer)
+        {
+            this.value = value;
+            this.transfer = Js.uncheckedCast(transfer);
+        }
+
+        public O getValue()
+        {
+            return value;
+        }
+
+        public JsArray<Object> getTransfer()
+        {
+            return transfer;
+        }
+    }
+
+    private static class PendingComputation<O>
+    {
+        private final ResolveCallbackFn<O> resolve;
+        private final RejectCallbackFn reject;
+
+        private PendingComputation(ResolveCallbackFn<O> resolve, RejectCallbackFn reject)
+        {
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+
+    @FunctionalInterface
+    @JsFunction
+    private interface MessageListener
+    {
+        void onMessage(JsPropertyMap<Object> event);
+    }
+}
@@ -0,0 +1,39 @@
+package com.axellience.vuegwt.core.client;
+
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.options.VueComponentOptions;
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Base class of the Vue GWT tests. Vue.js and Vue GWT are initialized once for all the tests.
+ * @author Adrien Baron
+ */
+public abstract class VueGWTTestCase extends GWTTestCase
+{
+    private static boolean isVueGWTInitialized = false;
+
+    @Override
+    public String getModuleName()
+    {
+        return "com.axellience.vuegwt.VueGWTTest";
+    }
+
+    @Override
+    protected void gwtSetUp()
+    {
+        if (isVueGWTInitialized)
+            return;
+
+        VueGWT.init();
+        isVueGWTInitialized = true;
+    }
+
+    /**
+     * Create a Vue instance with empty options, to register watchers on.
+     * @return A new Vue instance
+     */
+    protected VueComponent createVueInstance()
+    {
+        return Vue.extend(new VueComponentOptions<>()).instantiate();
+    }
+}
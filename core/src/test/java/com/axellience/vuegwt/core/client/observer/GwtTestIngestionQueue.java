@@ -0,0 +1,133 @@
+package com.axellience.vuegwt.core.client.observer;
+
+import com.axellience.vuegwt.core.client.VueGWTTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Adrien Baron
+ */
+public class GwtTestIngestionQueue extends VueGWTTestCase
+{
+    private List<Update> appliedUpdates;
+    private IngestionQueue<String, Update> queue;
+
+    @Override
+    protected void gwtSetUp()
+    {
+        super.gwtSetUp();
+        appliedUpdates = new ArrayList<>();
+        queue = new IngestionQueue<>(update -> update.key,
+            (pending, update) -> new Update(update.key, pending.value + update.value),
+            appliedUpdates::add);
+    }
+
+    public void testMergesUpdatesOfTheSameKey()
+    {
+        queue.push(new Update("a", 1));
+        queue.push(new Update("a", 2));
+
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(1, queue.getMergedCount());
+
+        queue.flush();
+        assertEquals(1, appliedUpdates.size());
+        assertEquals(3, appliedUpdates.get(0).value);
+        assertEquals(1, queue.getAppliedCount());
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    public void testDropsTheOldestUpdateWhenFull()
+    {
+        queue.setMaxQueueSize(2);
+        queue.push(new Update("a", 1));
+        queue.push(new Update("b", 2));
+        queue.push(new Update("c", 3));
+
+        assertEquals(2, queue.getQueueDepth());
+        assertEquals(1, queue.getDroppedCount());
+
+        queue.flush();
+        assertEquals(2, appliedUpdates.size());
+        assertEquals("b", appliedUpdates.get(0).key);
+        assertEquals("c", appliedUpdates.get(1).key);
+    }
+
+    public void testMergingDoesNotDropWhenFull()
+    {
+        queue.setMaxQueueSize(1);
+        queue.push(new Update("a", 1));
+        queue.push(new Update("a", 2));
+
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(0, queue.getDroppedCount());
+        assertEquals(1, queue.getMergedCount());
+    }
+
+    public void testDropsTheOldestUpdatesWhenTheMaxSizeIsLowered()
+    {
+        queue.push(new Update("a", 1));
+        queue.push(new Update("b", 2));
+        queue.push(new Update("c", 3));
+        queue.setMaxQueueSize(1);
+        queue.push(new Update("d", 4));
+
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(3, queue.getDroppedCount());
+
+        queue.flush();
+        assertEquals(1, appliedUpdates.size());
+        assertEquals("d", appliedUpdates.get(0).key);
+    }
+
+    public void testRejectsMaxQueueSizesBelowOne()
+    {
+        try
+        {
+            queue.setMaxQueueSize(0);
+            fail("A max queue size of 0 should be rejected");
+        }
+        catch (IllegalArgumentException expected)
+        {
+        }
+
+        try
+        {
+            queue.setMaxQueueSize(-1);
+            fail("A negative max queue size should be rejected");
+        }
+        catch (IllegalArgumentException expected)
+        {
+        }
+
+        // The queue still works
+        queue.push(new Update("a", 1));
+        assertEquals(1, queue.getQueueDepth());
+    }
+
+    public void testClearDropsThePendingUpdates()
+    {
+        queue.push(new Update("a", 1));
+        queue.push(new Update("b", 2));
+        queue.clear();
+
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(2, queue.getDroppedCount());
+
+        queue.flush();
+        assertTrue(appliedUpdates.isEmpty());
+    }
+
+    private static class Update
+    {
+        private final String key;
+        private final int value;
+
+        private Update(String key, int value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.axellience.vuegwt.core.client.observer;
+
+import com.axellience.vuegwt.core.client.Vue;
+import com.axellience.vuegwt.core.client.VueGWTTestCase;
+import elemental2.core.JsObject;
+import jsinterop.annotations.JsProperty;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * @author Adrien Baron
+ */
+public class GwtTestReactiveModels extends VueGWTTestCase
+{
+    private static final String VALUES = "vuegwt$values";
+    private static final String DEPS = "vuegwt$deps";
+    private static boolean isModelReactive = false;
+
+    @Override
+    protected void gwtSetUp()
+    {
+        super.gwtSetUp();
+        if (isModelReactive)
+            return;
+
+        ReactiveModels.makeReactive(Model.class, "name", "count");
+        isModelReactive = true;
+    }
+
+    public void testReadsOutsideWatchersDontAllocate()
+    {
+        Model model = new Model();
+        JsPropertyMap<Object> modelMap = Js.asPropertyMap(model);
+        int keysCount = JsObject.keys(model).length;
+
+        for (int i = 0; i < 1000; i++)
+        {
+            assertNull(model.name);
+            assertEquals(0, model.count, 0);
+        }
+
+        assertFalse(modelMap.has(VALUES));
+        assertFalse(modelMap.has(DEPS));
+        assertEquals(keysCount, JsObject.keys(model).length);
+    }
+
+    public void testWritesOutsideWatchersOnlyStoreValues()
+    {
+        Model model = new Model();
+        JsPropertyMap<Object> modelMap = Js.asPropertyMap(model);
+        int keysCount = JsObject.keys(model).length;
+
+        for (int i = 0; i < 1000; i++)
+        {
+            model.name = "name" + i;
+            model.count = i;
+        }
+
+        assertEquals("name999", model.name);
+        assertEquals(999, model.count, 0);
+        assertTrue(modelMap.has(VALUES));
+        assertFalse(modelMap.has(DEPS));
+
+        // The values are hidden, and the instance doesn't get own reactive properties
+        assertEquals(keysCount, JsObject.keys(model).length);
+    }
+
+    public void testValuesArePerInstance()
+    {
+        Model first = new Model();
+        Model second = new Model();
+        first.name = "first";
+
+        assertEquals("first", first.name);
+        assertNull(second.name);
+    }
+
+    public void testWatchersOnlyDependOnTheFieldsTheyRead()
+    {
+        Model model = new Model();
+        int[] notifyCount = { 0 };
+        createVueInstance().$watch(() -> model.name, (newValue, oldValue) -> notifyCount[0]++);
+
+        JsPropertyMap<Object> deps = Js.cast(Js.asPropertyMap(model).get(DEPS));
+        assertNotNull(deps);
+        assertTrue(deps.has("name"));
+        assertFalse(deps.has("count"));
+
+        model.count = 1;
+        delayTestFinish(1000);
+        Vue.nextTick(() -> {
+            assertEquals(0, notifyCount[0]);
+
+            model.name = "changed";
+            Vue.nextTick(() -> {
+                assertEquals(1, notifyCount[0]);
+                finishTest();
+            });
+        });
+    }
+
+    private static class Model
+    {
+        @JsProperty String name;
+        @JsProperty double count;
+    }
+}
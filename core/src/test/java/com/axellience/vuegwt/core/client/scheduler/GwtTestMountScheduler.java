@@ -0,0 +1,143 @@
+package com.axellience.vuegwt.core.client.scheduler;
+
+import com.axellience.vuegwt.core.client.Vue;
+import com.axellience.vuegwt.core.client.VueGWTTestCase;
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.options.VueComponentOptions;
+import com.axellience.vuegwt.core.client.component.options.props.PropOptions;
+import com.axellience.vuegwt.core.client.vnode.VNodeData;
+import com.axellience.vuegwt.core.client.vnode.builder.CreateElementFunction;
+import com.axellience.vuegwt.core.client.vnode.builder.VNodeBuilder;
+import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
+import elemental2.core.JsArray;
+import elemental2.dom.DomGlobal;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.withThis;
+
+/**
+ * @author Adrien Baron
+ */
+public class GwtTestMountScheduler extends VueGWTTestCase
+{
+    private static final int TREE_DEPTH = 6;
+
+    private static VueJsConstructor<VueComponent> treeConstructor;
+
+    @Override
+    protected void gwtSetUp()
+    {
+        super.gwtSetUp();
+        if (treeConstructor == null)
+            treeConstructor = Vue.extend(createTreeOptions());
+    }
+
+    public void testMountsTheEagerLevelsRightAway()
+    {
+        VueComponent root = treeConstructor.instantiate();
+        MountScheduler.setEagerDepth(root, 2);
+        root.$mount();
+
+        // The third level is created, but renders an empty node
+        assertEquals(3, getDepth(root));
+    }
+
+    public void testTreesHaveTheirOwnEagerDepth()
+    {
+        VueComponent shallowRoot = treeConstructor.instantiate();
+        MountScheduler.setEagerDepth(shallowRoot, 1);
+        VueComponent deepRoot = treeConstructor.instantiate();
+        MountScheduler.setEagerDepth(deepRoot, 3);
+
+        shallowRoot.$mount();
+        deepRoot.$mount();
+
+        assertEquals(2, getDepth(shallowRoot));
+        assertEquals(4, getDepth(deepRoot));
+    }
+
+    public void testMountsTheDeferredLevelsOnTheNextFrames()
+    {
+        VueComponent root = treeConstructor.instantiate();
+        MountScheduler.setEagerDepth(root, 1);
+        MountScheduler.setChunkSize(root, 1);
+        root.$mount();
+
+        delayTestFinish(5000);
+        waitForDepth(root, TREE_DEPTH, () -> {
+            // Deferred instances get their render function back once flushed
+            JsPropertyMap<Object> treeOptions = Js.cast(treeConstructor.getOptions());
+            JsPropertyMap<Object> instance = Js.cast(root);
+            while (instance != null)
+            {
+                JsPropertyMap<Object> instanceOptions = Js.cast(instance.get("$options"));
+                assertSame(treeOptions.get("render"), instanceOptions.get("render"));
+                instance = getFirstChild(instance);
+            }
+            finishTest();
+        });
+    }
+
+    public void testRejectsComponentsNotMountedIncrementally()
+    {
+        try
+        {
+            MountScheduler.setEagerDepth(createVueInstance(), 2);
+            fail("Only incremental Components have a tree");
+        }
+        catch (IllegalArgumentException expected)
+        {
+        }
+    }
+
+    private static VueComponentOptions<VueComponent> createTreeOptions()
+    {
+        VueComponentOptions<VueComponent> options = new VueComponentOptions<>();
+        PropOptions levelProp = new PropOptions();
+        levelProp.defaultValue = 1d;
+        options.addProp("level", levelProp);
+        options.setIncrementalMount(true);
+        options.setRender(withThis((vm, args) -> {
+            VNodeBuilder builder = new VNodeBuilder(Js.<CreateElementFunction>cast(args[0]));
+            double level = Js.asDouble(Js.asPropertyMap(vm).get("level"));
+            if (level >= TREE_DEPTH)
+                return builder.el("span");
+
+            return builder.el("div",
+                builder.el(treeConstructor, VNodeData.get().prop("level", level + 1)));
+        }));
+        return options;
+    }
+
+    private void waitForDepth(VueComponent root, int depth, Runnable callback)
+    {
+        DomGlobal.setTimeout(ignored -> {
+            if (getDepth(root) < depth)
+                waitForDepth(root, depth, callback);
+            else
+                callback.run();
+        }, 50);
+    }
+
+    /**
+     * Return the number of nested instances, only deferred instances have no child.
+     */
+    private static int getDepth(VueComponent root)
+    {
+        int depth = 0;
+        JsPropertyMap<Object> instance = Js.cast(root);
+        while (instance != null)
+        {
+            depth++;
+            instance = getFirstChild(instance);
+        }
+        return depth;
+    }
+
+    private static JsPropertyMap<Object> getFirstChild(JsPropertyMap<Object> instance)
+    {
+        JsArray<JsPropertyMap<Object>> children = Js.cast(instance.get("$children"));
+        return children.length == 0 ? null : children.getAt(0);
+    }
+}
@@ -0,0 +1,116 @@
+package com.axellience.vuegwt.core.client.store;
+
+import com.axellience.vuegwt.core.client.Vue;
+import com.axellience.vuegwt.core.client.VueGWTTestCase;
+import com.axellience.vuegwt.core.client.component.VueComponent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Adrien Baron
+ */
+public class GwtTestSelector extends VueGWTTestCase
+{
+    private Store<State> store;
+    private int selectCount;
+
+    @Override
+    protected void gwtSetUp()
+    {
+        super.gwtSetUp();
+        store = new Store<>(new State(1, Arrays.asList("a", "b")));
+        selectCount = 0;
+    }
+
+    public void testSlicesAreMemoized()
+    {
+        Selector<State, Integer> selector = store.select(this::selectCount);
+
+        assertEquals(1, (int) selector.get());
+        assertEquals(1, (int) selector.get());
+        assertEquals(1, selectCount);
+
+        store.setState(new State(2, store.getState().names));
+        assertEquals(2, (int) selector.get());
+        assertEquals(2, selectCount);
+    }
+
+    public void testUnwatchedSelectorsAreNotComputedOnChange()
+    {
+        Selector<State, Integer> selector = store.select(this::selectCount);
+        selector.get();
+
+        store.setState(new State(2, store.getState().names));
+        store.setState(new State(3, store.getState().names));
+        assertEquals(1, selectCount);
+    }
+
+    public void testWatchedSelectorsAreComputedOnChange()
+    {
+        Selector<State, Integer> selector = store.select(this::selectCount);
+        createVueInstance().$watch(selector::get, (newValue, oldValue) -> {
+        });
+        assertEquals(1, selectCount);
+
+        store.setState(new State(2, store.getState().names));
+        assertEquals(2, selectCount);
+    }
+
+    public void testSelectorsStayInTheStoreUntilDisposed()
+    {
+        Selector<State, Integer> kept = store.select(this::selectCount);
+        Selector<State, Integer> disposed = store.select(this::selectCount);
+        VueComponent vm = createVueInstance();
+        vm.$watch(kept::get, (newValue, oldValue) -> {
+        });
+        vm.$watch(disposed::get, (newValue, oldValue) -> {
+        });
+        assertEquals(2, selectCount);
+
+        disposed.dispose();
+        store.setState(new State(2, store.getState().names));
+
+        // Only the selector still in the store is computed again
+        assertEquals(3, selectCount);
+    }
+
+    public void testShallowEqualSlicesDontNotifyWatchers()
+    {
+        Selector<State, List<String>> selector = store.select(state -> state.names);
+        int[] notifyCount = { 0 };
+        createVueInstance().$watch(selector::get, (newValue, oldValue) -> notifyCount[0]++);
+
+        // Same names, in a new list
+        store.setState(new State(2, Arrays.asList("a", "b")));
+
+        delayTestFinish(1000);
+        Vue.nextTick(() -> {
+            assertEquals(0, notifyCount[0]);
+
+            store.setState(new State(3, Arrays.asList("a", "c")));
+            Vue.nextTick(() -> {
+                assertEquals(1, notifyCount[0]);
+                finishTest();
+            });
+        });
+    }
+
+    private int selectCount(State state)
+    {
+        selectCount++;
+        return state.count;
+    }
+
+    private static class State
+    {
+        private final int count;
+        private final List<String> names;
+
+        private State(int count, List<String> names)
+        {
+            this.count = count;
+            this.names = names;
+        }
+    }
+}
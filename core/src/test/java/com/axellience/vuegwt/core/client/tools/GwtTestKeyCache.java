@@ -0,0 +1,97 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import com.axellience.vuegwt.core.client.VueGWTTestCase;
+
+/**
+ * @author Adrien Baron
+ */
+public class GwtTestKeyCache extends VueGWTTestCase
+{
+    private static final int GENERATION_SIZE = 1000;
+
+    private KeyCache<String> cache;
+
+    @Override
+    protected void gwtSetUp()
+    {
+        super.gwtSetUp();
+        cache = new KeyCache<>();
+    }
+
+    public void testObjectKeys()
+    {
+        Object key = new Object();
+        cache.set(key, "value");
+
+        assertEquals("value", cache.get(key));
+        assertNull(cache.get(new Object()));
+
+        cache.delete(key);
+        assertNull(cache.get(key));
+    }
+
+    public void testPrimitiveKeys()
+    {
+        cache.set("key", "value");
+        cache.set(1d, "number");
+
+        assertEquals("value", cache.get("key"));
+        assertEquals("number", cache.get(1d));
+        assertNull(cache.get("other"));
+    }
+
+    public void testFullGenerationBecomesTheOldOne()
+    {
+        fillGeneration(0);
+        // Starts a new generation, the first one is still readable
+        cache.set("key" + GENERATION_SIZE, "value" + GENERATION_SIZE);
+
+        assertEquals("value0", cache.get("key0"));
+        assertEquals("value" + (GENERATION_SIZE - 1), cache.get("key" + (GENERATION_SIZE - 1)));
+    }
+
+    public void testOldestGenerationIsDropped()
+    {
+        fillGeneration(0);
+        fillGeneration(GENERATION_SIZE);
+        cache.set("key" + 2 * GENERATION_SIZE, "value");
+
+        assertNull(cache.get("key0"));
+        assertEquals("value" + GENERATION_SIZE, cache.get("key" + GENERATION_SIZE));
+    }
+
+    public void testReadKeysMoveToTheCurrentGeneration()
+    {
+        fillGeneration(0);
+        cache.set("key" + GENERATION_SIZE, "value" + GENERATION_SIZE);
+
+        // Read from the old generation, it moves to the current one
+        assertEquals("value5", cache.get("key5"));
+
+        // Fill the current generation, which already has 2 keys, and start a new one
+        for (int i = 1; i < GENERATION_SIZE - 1; i++)
+            cache.set("new" + i, "new" + i);
+        cache.set("last", "last");
+
+        assertEquals("value5", cache.get("key5"));
+        assertNull(cache.get("key6"));
+    }
+
+    public void testDeleteRemovesFromBothGenerations()
+    {
+        fillGeneration(0);
+        cache.set("current", "current");
+
+        cache.delete("key0");
+        cache.delete("current");
+
+        assertNull(cache.get("key0"));
+        assertNull(cache.get("current"));
+    }
+
+    private void fillGeneration(int start)
+    {
+        for (int i = start; i < start + GENERATION_SIZE; i++)
+            cache.set("key" + i, "value" + i);
+    }
+}
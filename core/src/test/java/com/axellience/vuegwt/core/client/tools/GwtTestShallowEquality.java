@@ -0,0 +1,82 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import com.axellience.vuegwt.core.client.VueGWTTestCase;
+import elemental2.core.JsArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.axellience.vuegwt.core.client.tools.ShallowEquality.isShallowEqual;
+
+/**
+ * @author Adrien Baron
+ */
+public class GwtTestShallowEquality extends VueGWTTestCase
+{
+    public void testPrimitiveValues()
+    {
+        assertTrue(isShallowEqual(null, null));
+        assertTrue(isShallowEqual("a", "a"));
+        assertTrue(isShallowEqual(1, 1));
+        assertTrue(isShallowEqual(true, true));
+
+        assertFalse(isShallowEqual("a", null));
+        assertFalse(isShallowEqual(null, "a"));
+        assertFalse(isShallowEqual("a", "b"));
+        assertFalse(isShallowEqual(1, 2));
+    }
+
+    public void testListsCompareTheirElementsByReference()
+    {
+        Object element = new Object();
+        List<Object> list = Arrays.asList(element, "a");
+
+        assertTrue(isShallowEqual(list, new ArrayList<>(list)));
+        assertFalse(isShallowEqual(list, Arrays.asList(element)));
+        assertFalse(isShallowEqual(list, Arrays.asList("a", element)));
+
+        // Elements are not compared deeply
+        assertFalse(isShallowEqual(Arrays.asList(Arrays.asList("a")),
+            Arrays.asList(Arrays.asList("a"))));
+    }
+
+    public void testMapsCompareTheirValuesByReference()
+    {
+        Object value = new Object();
+        Map<String, Object> map = new HashMap<>();
+        map.put("a", value);
+        map.put("b", null);
+
+        assertTrue(isShallowEqual(map, new HashMap<>(map)));
+
+        Map<String, Object> otherKey = new HashMap<>();
+        otherKey.put("a", value);
+        otherKey.put("c", null);
+        assertFalse(isShallowEqual(map, otherKey));
+
+        Map<String, Object> otherValue = new HashMap<>(map);
+        otherValue.put("a", new Object());
+        assertFalse(isShallowEqual(map, otherValue));
+    }
+
+    public void testJsArraysCompareTheirElementsByReference()
+    {
+        Object element = new Object();
+
+        assertTrue(isShallowEqual(new JsArray<>(element, "a"), new JsArray<>(element, "a")));
+        assertFalse(isShallowEqual(new JsArray<>(element, "a"), new JsArray<>(element)));
+        assertFalse(isShallowEqual(new JsArray<>(element), new JsArray<>(new Object())));
+    }
+
+    public void testOtherObjectsAreComparedByReference()
+    {
+        Object object = new Object();
+
+        assertTrue(isShallowEqual(object, object));
+        assertFalse(isShallowEqual(new Object(), new Object()));
+        assertFalse(isShallowEqual(Arrays.asList("a"), new JsArray<>("a")));
+    }
+}
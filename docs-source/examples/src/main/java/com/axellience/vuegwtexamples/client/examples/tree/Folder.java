@@ -9,11 +9,13 @@ public class Folder
 {
     private String name;
     private final JsArray<Folder> content;
+    private boolean expanded;
 
     public Folder(String name)
     {
         this.name = name;
         this.content = new JsArray<>();
+        this.expanded = true;
     }
 
     public boolean hasContent()
@@ -35,4 +37,14 @@ public class Folder
     {
         return content;
     }
+
+    public boolean isExpanded()
+    {
+        return expanded;
+    }
+
+    public void toggle()
+    {
+        expanded = !expanded;
+    }
 }
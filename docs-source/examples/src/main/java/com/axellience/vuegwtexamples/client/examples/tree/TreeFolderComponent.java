@@ -3,15 +3,22 @@ package com.axellience.vuegwtexamples.client.examples.tree;
 import com.axellience.vuegwt.core.client.component.VueComponent;
 import com.axellience.vuegwt.core.annotations.component.Component;
 import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.client.component.hooks.HasExpandedState;
 import jsinterop.annotations.JsProperty;
 
 /**
  * @author Adrien Baron
  */
-@Component(components = TreeFolderContentComponent.class)
-public class TreeFolderComponent extends VueComponent
+@Component(components = TreeFolderContentComponent.class, incrementalMount = true)
+public class TreeFolderComponent extends VueComponent implements HasExpandedState
 {
     @Prop
     @JsProperty
     public Folder folder;
+
+    @Override
+    public boolean isExpanded()
+    {
+        return folder.isExpanded();
+    }
 }
@@ -3,11 +3,15 @@ package com.axellience.vuegwt.processors;
 import com.axellience.vuegwt.core.annotations.component.Component;
 import com.axellience.vuegwt.core.annotations.component.JsComponent;
 import com.axellience.vuegwt.core.annotations.directive.Directive;
+import com.axellience.vuegwt.core.annotations.reactivity.NotReactive;
+import com.axellience.vuegwt.core.annotations.reactivity.Reactive;
 import com.axellience.vuegwt.processors.component.ComponentInjectedDependenciesBuilder;
 import com.axellience.vuegwt.processors.component.ComponentJsTypeGenerator;
 import com.axellience.vuegwt.processors.component.factory.VueComponentFactoryGenerator;
 import com.axellience.vuegwt.processors.component.factory.VueJsComponentFactoryGenerator;
 import com.axellience.vuegwt.processors.directive.VueDirectiveOptionsGenerator;
+import com.axellience.vuegwt.processors.reactivity.NotReactiveTypeGenerator;
+import com.axellience.vuegwt.processors.reactivity.ReactiveModelGenerator;
 import com.google.auto.service.AutoService;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -26,7 +30,9 @@ import java.util.Set;
 @SupportedAnnotationTypes({
     "com.axellience.vuegwt.core.annotations.component.Component",
     "com.axellience.vuegwt.core.annotations.component.JsComponent",
-    "com.axellience.vuegwt.core.annotations.directive.Directive"
+    "com.axellience.vuegwt.core.annotations.directive.Directive",
+    "com.axellience.vuegwt.core.annotations.reactivity.Reactive",
+    "com.axellience.vuegwt.core.annotations.reactivity.NotReactive"
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class VueGwtProcessor extends AbstractProcessor
@@ -43,6 +49,8 @@ public class VueGwtProcessor extends AbstractProcessor
         this.processDirectiveAnnotations(roundEnv);
         this.processComponentAnnotations(roundEnv);
         this.processJsComponentAnnotations(roundEnv);
+        this.processReactiveAnnotations(roundEnv);
+        this.processNotReactiveAnnotations(roundEnv);
 
         // claim the annotation
         return true;
@@ -94,4 +102,29 @@ public class VueGwtProcessor extends AbstractProcessor
             vueJsComponentRegistrationGenerator.generate(element);
         }
     }
-}
\ No newline at end of file
+
+    private void processReactiveAnnotations(RoundEnvironment roundEnv)
+    {
+        Set<? extends Element> annotatedElements =
+            roundEnv.getElementsAnnotatedWith(Reactive.class);
+
+        ReactiveModelGenerator reactiveModelGenerator = new ReactiveModelGenerator(processingEnv);
+        for (TypeElement element : ElementFilter.typesIn(annotatedElements))
+        {
+            reactiveModelGenerator.generate(element);
+        }
+    }
+
+    private void processNotReactiveAnnotations(RoundEnvironment roundEnv)
+    {
+        Set<? extends Element> annotatedElements =
+            roundEnv.getElementsAnnotatedWith(NotReactive.class);
+
+        NotReactiveTypeGenerator notReactiveTypeGenerator =
+            new NotReactiveTypeGenerator(processingEnv);
+        for (TypeElement element : ElementFilter.typesIn(annotatedElements))
+        {
+            notReactiveTypeGenerator.generate(element);
+        }
+    }
+}
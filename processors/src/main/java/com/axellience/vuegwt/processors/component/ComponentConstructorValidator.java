@@ -0,0 +1,160 @@
+package com.axellience.vuegwt.processors.component;
+
+import com.axellience.vuegwt.core.annotations.component.Computed;
+import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Check that the Java constructor of a {@link VueComponent} doesn't use its props or computed
+ * properties.
+ * The constructor and field initializers run in the beforeCreate hook, before Vue.js initializes
+ * props and computed properties. Reading them there would silently get undefined values.
+ * This uses the javac Trees API. With other compilers, nothing is checked.
+ * @author Adrien Baron
+ */
+public class ComponentConstructorValidator
+{
+    private final Trees trees;
+
+    public ComponentConstructorValidator(ProcessingEnvironment processingEnvironment)
+    {
+        trees = getTrees(processingEnvironment);
+    }
+
+    private static Trees getTrees(ProcessingEnvironment processingEnvironment)
+    {
+        try
+        {
+            return Trees.instance(processingEnvironment);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Not running in javac
+            return null;
+        }
+    }
+
+    /**
+     * Report an error for each use of a @Prop field or a @Computed method in the constructors,
+     * field initializers and initializer blocks of the given Component.
+     * @param component {@link VueComponent} to check
+     */
+    public void validate(TypeElement component)
+    {
+        if (trees == null)
+            return;
+
+        TreePath componentPath = trees.getPath(component);
+        if (componentPath == null)
+            return;
+
+        ClassTree componentTree = (ClassTree) componentPath.getLeaf();
+        for (Tree member : componentTree.getMembers())
+        {
+            if (isInitializationCode(member))
+                new InitializationScanner(component).scan(new TreePath(componentPath, member),
+                    null);
+        }
+    }
+
+    private boolean isInitializationCode(Tree member)
+    {
+        if (member instanceof MethodTree)
+            return ((MethodTree) member).getName().contentEquals("<init>");
+
+        if (member instanceof VariableTree)
+        {
+            VariableTree field = (VariableTree) member;
+            return field.getInitializer() != null && !field
+                .getModifiers()
+                .getFlags()
+                .contains(Modifier.STATIC);
+        }
+
+        if (member instanceof BlockTree)
+            return !((BlockTree) member).isStatic();
+
+        return false;
+    }
+
+    private class InitializationScanner extends TreePathScanner<Void, Void>
+    {
+        private final TypeElement component;
+
+        private InitializationScanner(TypeElement component)
+        {
+            this.component = component;
+        }
+
+        @Override
+        public Void visitIdentifier(IdentifierTree node, Void unused)
+        {
+            checkElement(node.getName().toString());
+            return super.visitIdentifier(node, unused);
+        }
+
+        @Override
+        public Void visitMemberSelect(MemberSelectTree node, Void unused)
+        {
+            checkElement(node.getIdentifier().toString());
+            return super.visitMemberSelect(node, unused);
+        }
+
+        // Local classes and lambdas can run later, when the props are set
+        @Override
+        public Void visitClass(ClassTree node, Void unused)
+        {
+            return null;
+        }
+
+        @Override
+        public Void visitLambdaExpression(LambdaExpressionTree node, Void unused)
+        {
+            return null;
+        }
+
+        private void checkElement(String name)
+        {
+            Element element = trees.getElement(getCurrentPath());
+            if (element == null)
+                return;
+
+            String kind;
+            if (element.getAnnotation(Prop.class) != null)
+                kind = "@Prop";
+            else if (element.getAnnotation(Computed.class) != null)
+                kind = "@Computed";
+            else
+                return;
+
+            trees.printMessage(Kind.ERROR,
+                "\""
+                    + name
+                    + "\" is annotated with "
+                    + kind
+                    + " and can't be used in the constructor or a field initializer, they run "
+                    + "before Vue.js initializes it. Use the created hook instead. In "
+                    + "VueComponent: "
+                    + component.getQualifiedName(),
+                getCurrentPath().getLeaf(),
+                getCurrentPath().getCompilationUnit());
+        }
+    }
+}
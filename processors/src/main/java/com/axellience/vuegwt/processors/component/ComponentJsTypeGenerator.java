@@ -11,10 +11,13 @@ import com.axellience.vuegwt.core.annotations.component.Watch;
 import com.axellience.vuegwt.core.client.VueGWT;
 import com.axellience.vuegwt.core.client.component.ComponentJavaConstructor;
 import com.axellience.vuegwt.core.client.component.VueComponent;
+import com.axellience.vuegwt.core.client.component.hooks.HasBeforeCreate;
 import com.axellience.vuegwt.core.client.component.hooks.HasCreated;
 import com.axellience.vuegwt.core.client.component.hooks.HasRender;
 import com.axellience.vuegwt.core.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.core.client.component.options.computed.ComputedKind;
+import com.axellience.vuegwt.core.client.scheduler.RenderPriority;
+import com.axellience.vuegwt.core.client.tools.WatchScheduler;
 import com.axellience.vuegwt.core.client.vnode.VNode;
 import com.axellience.vuegwt.core.client.vnode.builder.CreateElementFunction;
 import com.axellience.vuegwt.core.client.vnode.builder.VNodeBuilder;
@@ -32,21 +35,28 @@ import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
 import elemental2.core.Function;
 import elemental2.core.JsArray;
+import elemental2.promise.Promise;
 import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
 
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
@@ -85,6 +95,7 @@ public class ComponentJsTypeGenerator
         messager = processingEnvironment.getMessager();
         elements = processingEnvironment.getElementUtils();
         componentTemplateProcessor = new ComponentTemplateProcessor(processingEnvironment);
+        componentConstructorValidator = new ComponentConstructorValidator(processingEnvironment);
     }
 
     public void generate(TypeElement component, ComponentInjectedDependenciesBuilder dependenciesBuilder)
@@ -100,7 +111,13 @@ public class ComponentJsTypeGenerator
 
         Set<ExecutableElement> hookMethodsFromInterfaces = getHookMethodsFromInterfaces(component);
 
-        processData(component, optionsBuilder);
+        boolean isFunctional = component.getAnnotation(Component.class).functional();
+        if (isFunctional)
+            validateFunctionalComponent(component, dependenciesBuilder, hookMethodsFromInterfaces);
+
+        boolean isExtendingJsComponent = isExtendingJsComponent(component);
+
+        processData(component, optionsBuilder, isExtendingJsComponent);
         processProps(component, optionsBuilder);
         processComputed(component, optionsBuilder, componentJsTypeBuilder);
         processWatchers(component, optionsBuilder, componentJsTypeBuilder);
@@ -113,7 +130,22 @@ public class ComponentJsTypeGenerator
             hookMethodsFromInterfaces);
         processInvalidEmitMethods(component);
         processRenderFunction(component, optionsBuilder, componentJsTypeBuilder);
-        createCreatedHook(component, optionsBuilder, componentJsTypeBuilder, dependenciesBuilder);
+        if (isExtendingJsComponent)
+        {
+            createCreatedHook(component,
+                optionsBuilder,
+                componentJsTypeBuilder,
+                dependenciesBuilder);
+        }
+        else if (!isFunctional)
+        {
+            // Functional Components don't have instances, so nothing to initialize for them
+            componentConstructorValidator.validate(component);
+            createBeforeCreateHook(component,
+                optionsBuilder,
+                componentJsTypeBuilder,
+                dependenciesBuilder);
+        }
 
         // Process the HTML template if there is one
         if (hasTemplate(processingEnv, component))
@@ -123,6 +155,9 @@ public class ComponentJsTypeGenerator
                 "options.initRenderFunctions(getRenderFunction(), getStaticRenderFunctions())");
         }
 
+        if (isFunctional)
+            optionsBuilder.addStatement("options.initFunctional()");
+
         // Finish building Options getter
         optionsBuilder.addStatement("return options");
         componentJsTypeBuilder.addMethod(optionsBuilder.build());
@@ -134,6 +169,52 @@ public class ComponentJsTypeGenerator
             component);
     }
 
+    /**
+     * Emit an error for every feature that requires an instance on a functional {@link
+     * VueComponent}.
+     * @param component {@link VueComponent} to process
+     * @param dependenciesBuilder Builder for our component dependencies
+     * @param hookMethodsFromInterfaces Hook methods from the interface the {@link VueComponent}
+     * implements
+     */
+    private void validateFunctionalComponent(TypeElement component,
+        ComponentInjectedDependenciesBuilder dependenciesBuilder,
+        Set<ExecutableElement> hookMethodsFromInterfaces)
+    {
+        if (getSuperComponentType(component).isPresent())
+            printError("Functional components can't extend other components.", component);
+
+        if (dependenciesBuilder.hasInjectedDependencies())
+            printError("Functional components can't have injected dependencies.", component);
+
+        if (component.getAnnotation(Component.class).renderPriority() != RenderPriority.NORMAL)
+            printError("Functional components can't have a render priority.", component);
+
+        if (component.getAnnotation(Component.class).incrementalMount())
+            printError("Functional components can't be mounted incrementally.", component);
+
+        ElementFilter
+            .fieldsIn(component.getEnclosedElements())
+            .stream()
+            .filter(ComponentGeneratorsUtil::isFieldVisibleInJS)
+            .filter(field -> !hasAnnotation(field, Prop.class))
+            .forEach(field -> printError("The field \""
+                + field.getSimpleName()
+                + "\" can't be used as data in a functional component.", component));
+
+        ElementFilter
+            .methodsIn(component.getEnclosedElements())
+            .stream()
+            .filter(method -> hasAnnotation(method, Computed.class)
+                || hasAnnotation(method, Watch.class)
+                || (isHookMethod(component, method, hookMethodsFromInterfaces)
+                && !"render".equals(method.getSimpleName().toString())))
+            .forEach(method -> printError("The method \""
+                + method.getSimpleName()
+                + "\" can't be used in a functional component, only props, methods and the render function are supported.",
+                component));
+    }
+
     /**
      * Create and return the builder for the JsType of our {@link VueComponent}.
      * @param component The {@link VueComponent} we are generating for
@@ -192,6 +273,16 @@ public class ComponentJsTypeGenerator
         if (!"".equals(annotation.name()))
             optionsMethodBuilder.addStatement("options.setName($S)", annotation.name());
 
+        if (annotation.renderPriority() != RenderPriority.NORMAL)
+        {
+            optionsMethodBuilder.addStatement("options.setRenderPriority($T.$L)",
+                RenderPriority.class,
+                annotation.renderPriority());
+        }
+
+        if (annotation.incrementalMount())
+            optionsMethodBuilder.addStatement("options.setIncrementalMount(true)");
+
         optionsMethodBuilder.addStatement(
             "options.setComponentJavaPrototype($T.getJavaConstructor($T.class).prototype)",
             VueGWT.class,
@@ -205,8 +296,12 @@ public class ComponentJsTypeGenerator
      * @param component {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
+     * @param isExtendingJsComponent Whether the {@link VueComponent} extends a JS Component. In
+     * that case the Java constructor is called after the data initialization and the data are
+     * initialized from the prototype values
      */
-    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder)
+    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder,
+        boolean isExtendingJsComponent)
     {
         Component annotation = component.getAnnotation(Component.class);
 
@@ -214,6 +309,7 @@ public class ComponentJsTypeGenerator
             .fieldsIn(component.getEnclosedElements())
             .stream()
             .filter(ComponentGeneratorsUtil::isFieldVisibleInJS)
+            .filter(ComponentGeneratorsUtil::isFieldReactive)
             .filter(field -> field.getAnnotation(Prop.class) == null)
             .map(field -> field.getSimpleName().toString())
             .collect(Collectors.toList());
@@ -227,7 +323,8 @@ public class ComponentJsTypeGenerator
             .map(fieldName -> "\"" + fieldName + "\"")
             .collect(Collectors.joining(", "));
 
-        optionsBuilder.addStatement("options.initData($L, $L)",
+        optionsBuilder.addStatement("options.$L($L, $L)",
+            isExtendingJsComponent ? "initData" : "initInstanceData",
             annotation.useFactory(),
             fieldNamesParameters);
     }
@@ -240,6 +337,10 @@ public class ComponentJsTypeGenerator
      */
     private void processProps(TypeElement component, MethodSpec.Builder optionsBuilder)
     {
+        boolean shallowCompareProps =
+            component.getAnnotation(Component.class).shallowCompareProps();
+        List<String> shallowComparedProps = new ArrayList<>();
+
         ElementFilter
             .fieldsIn(component.getEnclosedElements())
             .stream()
@@ -256,11 +357,29 @@ public class ComponentJsTypeGenerator
                         component);
                 }
 
+                // The Java constructor runs before Vue.js initializes props, its value is dropped
+                if (!isExtendingJsComponent(component) && hasInitializer(processingEnv, field))
+                {
+                    printError("The field \""
+                            + fieldName
+                            + "\" annotated with @Prop can't have an initializer, use a @PropDefault method instead.",
+                        component);
+                }
+
                 optionsBuilder.addStatement("options.addJavaProp($S, $L, $S)",
                     fieldName,
                     prop.required(),
                     prop.checkType() ? getNativeNameForJavaType(field.asType()) : null);
+
+                if (shallowCompareProps || prop.immutable())
+                    shallowComparedProps.add("\"" + fieldName + "\"");
             });
+
+        if (!shallowComparedProps.isEmpty())
+        {
+            optionsBuilder.addStatement("options.addShallowComparedProps($L)",
+                String.join(", ", shallowComparedProps));
+        }
     }
 
     /**
@@ -281,11 +400,27 @@ public class ComponentJsTypeGenerator
                 kind = ComputedKind.SETTER;
 
             String propertyName = GeneratorsUtil.getComputedPropertyName(method);
-            optionsBuilder.addStatement("options.addJavaComputed($S, $S, $T.$L)",
-                methodName,
-                propertyName,
-                ComputedKind.class,
-                kind);
+            if (method.getAnnotation(Computed.class).async())
+            {
+                if (!isPromise(method.getReturnType()))
+                {
+                    printError("Async computed property "
+                        + methodName
+                        + " must return a Promise.", component);
+                }
+
+                optionsBuilder.addStatement("options.addJavaAsyncComputed($S, $S)",
+                    methodName,
+                    propertyName);
+            }
+            else
+            {
+                optionsBuilder.addStatement("options.addJavaComputed($S, $S, $T.$L)",
+                    methodName,
+                    propertyName,
+                    ComputedKind.class,
+                    kind);
+            }
 
             addProxyJsTypeMethodIfNecessary(componentJsTypeBuilder, method);
         });
@@ -293,6 +428,38 @@ public class ComponentJsTypeGenerator
         addFieldsForComputedMethod(component, componentJsTypeBuilder, new HashSet<>());
     }
 
+    /**
+     * Return whether a type is a {@link Promise}.
+     * @param type The type to check
+     * @return true if it's a Promise, false otherwise
+     */
+    private boolean isPromise(TypeMirror type)
+    {
+        if (type.getKind() != TypeKind.DECLARED)
+            return false;
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        return typeElement.getQualifiedName().contentEquals(Promise.class.getCanonicalName());
+    }
+
+    /**
+     * Return the type of the value of a Promise.
+     * @param promiseType The type of the Promise
+     * @return The type of its value, Object if it's a raw Promise
+     */
+    private TypeMirror getPromiseValueType(TypeMirror promiseType)
+    {
+        if (!isPromise(promiseType))
+            return elements.getTypeElement(Object.class.getCanonicalName()).asType();
+
+        List<? extends TypeMirror> typeArguments =
+            ((DeclaredType) promiseType).getTypeArguments();
+        if (typeArguments.isEmpty())
+            return elements.getTypeElement(Object.class.getCanonicalName()).asType();
+
+        return typeArguments.get(0);
+    }
+
     /**
      * Process template methods for our {@link VueComponent} class.
      * @param component {@link VueComponent} to process
@@ -342,6 +509,8 @@ public class ComponentJsTypeGenerator
             TypeMirror propertyType;
             if ("void".equals(method.getReturnType().toString()))
                 propertyType = method.getParameters().get(0).asType();
+            else if (method.getAnnotation(Computed.class).async())
+                propertyType = getPromiseValueType(method.getReturnType());
             else
                 propertyType = method.getReturnType();
 
@@ -369,15 +538,197 @@ public class ComponentJsTypeGenerator
         getMethodsWithAnnotation(component, Watch.class).forEach(method -> {
             Watch watch = method.getAnnotation(Watch.class);
 
-            optionsBuilder.addStatement("options.addJavaWatch($S, $S, $L)",
-                method.getSimpleName().toString(),
-                watch.value(),
-                watch.isDeep());
+            if (!isExtendingJsComponent(component))
+                validateWatchedPath(component, method, watch.value());
+
+            String watcherMethodName = method.getSimpleName().toString();
+            if (watch.debounceMs() > 0 || watch.throttleMs() > 0)
+            {
+                watcherMethodName = addScheduledWatcherMethod(component,
+                    componentJsTypeBuilder,
+                    method,
+                    watch);
+            }
+
+            if (watch.isImmediate())
+            {
+                optionsBuilder.addStatement("options.addJavaWatch($S, $S, $L, $L)",
+                    watcherMethodName,
+                    watch.value(),
+                    watch.isDeep(),
+                    true);
+            }
+            else
+            {
+                optionsBuilder.addStatement("options.addJavaWatch($S, $S, $L)",
+                    watcherMethodName,
+                    watch.value(),
+                    watch.isDeep());
+            }
 
             addProxyJsTypeMethodIfNecessary(componentJsTypeBuilder, method);
         });
     }
 
+    /**
+     * Check that the property watched by a {@link Watch} exists.
+     * The first part of the path must be a field or a computed property of the Component. For
+     * nested properties, we follow the types of the fields as long as they are Java classes we
+     * can inspect. Nested properties are read from JS, so they are matched by their JS name and
+     * must be visible in JS.
+     * @param component {@link VueComponent} to process
+     * @param method The watcher method
+     * @param path The watched property, or path to a nested property
+     */
+    private void validateWatchedPath(TypeElement component, ExecutableElement method,
+        String path)
+    {
+        String[] segments = path.split("\\.");
+
+        // Vue.js instance properties ($route, $props...) can't be checked
+        if (segments[0].startsWith("$"))
+            return;
+
+        boolean isComputed = ElementFilter
+            .methodsIn(elements.getAllMembers(component))
+            .stream()
+            .filter(componentMethod -> hasAnnotation(componentMethod, Computed.class))
+            .map(GeneratorsUtil::getComputedPropertyName)
+            .anyMatch(segments[0]::equals);
+        if (isComputed)
+            return;
+
+        TypeElement currentType = component;
+        for (int i = 0; i < segments.length; i++)
+        {
+            String segment = segments[i];
+            // Component fields are in the data under their Java name, nested ones are read from JS
+            boolean isNested = i > 0;
+            VariableElement field = ElementFilter
+                .fieldsIn(elements.getAllMembers(currentType))
+                .stream()
+                .filter(currentField -> !currentField.getModifiers().contains(Modifier.STATIC))
+                .filter(currentField -> segment.equals(isNested ? getFieldJsName(currentField)
+                    : currentField.getSimpleName().toString()))
+                .findFirst()
+                .orElse(null);
+
+            if (field == null)
+            {
+                printError("Couldn't find the property \""
+                    + segment
+                    + "\" in \""
+                    + path
+                    + "\" watched by "
+                    + method.getSimpleName()
+                    + ". Make sure it is a field of "
+                    + currentType.getSimpleName()
+                    + ".", component);
+                return;
+            }
+
+            if (isNested && !isFieldVisibleInJS(field))
+            {
+                printError("The property \""
+                    + segment
+                    + "\" in \""
+                    + path
+                    + "\" watched by "
+                    + method.getSimpleName()
+                    + " is not visible in JS. Add @JsProperty on it, or make it public in a"
+                    + " @JsType class.", component);
+                return;
+            }
+
+            TypeMirror fieldType = field.asType();
+            if (fieldType.getKind() != TypeKind.DECLARED)
+                return;
+
+            currentType = (TypeElement) ((DeclaredType) fieldType).asElement();
+            if (!isWatchedPathCheckable(currentType))
+                return;
+        }
+    }
+
+    /**
+     * Return the name of a field in JS, either from its {@link JsProperty} annotation or its Java
+     * name.
+     * @param field The field to get the name of
+     * @return The name of the field in JS
+     */
+    private String getFieldJsName(VariableElement field)
+    {
+        JsProperty jsProperty = field.getAnnotation(JsProperty.class);
+        if (jsProperty == null || "<auto>".equals(jsProperty.name()) || jsProperty
+            .name()
+            .isEmpty())
+            return field.getSimpleName().toString();
+
+        return jsProperty.name();
+    }
+
+    /**
+     * Return whether we can check the properties of a given type in a watched path.
+     * Native JsTypes and types from the JDK or elemental2 can have properties that are not
+     * declared as Java fields.
+     * @param type The type to check
+     * @return true if we can check its properties, false otherwise
+     */
+    private boolean isWatchedPathCheckable(TypeElement type)
+    {
+        if (type.getKind() != ElementKind.CLASS)
+            return false;
+
+        JsType jsType = type.getAnnotation(JsType.class);
+        if (jsType != null && jsType.isNative())
+            return false;
+
+        String qualifiedName = type.getQualifiedName().toString();
+        return !qualifiedName.startsWith("java.") && !qualifiedName.startsWith("elemental2.");
+    }
+
+    /**
+     * Add a method to the JsType of the Component that calls a watcher with a debounce or a
+     * throttle. Vue.js calls this method instead of the watcher.
+     * @param component {@link VueComponent} to process
+     * @param componentJsTypeBuilder Builder for the JsType class
+     * @param method The watcher method
+     * @param watch The {@link Watch} annotation of the watcher
+     * @return The name of the added method
+     */
+    private String addScheduledWatcherMethod(TypeElement component,
+        Builder componentJsTypeBuilder, ExecutableElement method, Watch watch)
+    {
+        String methodName = method.getSimpleName().toString();
+        if (watch.debounceMs() > 0 && watch.throttleMs() > 0)
+        {
+            printError("Watcher "
+                + methodName
+                + " can't have both a debounce and a throttle.", component);
+        }
+
+        String scheduledMethodName = "vuegwt$watch$" + methodName;
+        MethodSpec.Builder scheduledMethodBuilder =
+            MethodSpec.methodBuilder(scheduledMethodName).addModifiers(Modifier.PUBLIC);
+
+        method
+            .getParameters()
+            .forEach(parameter -> scheduledMethodBuilder.addParameter(TypeName.get(parameter.asType()),
+                parameter.getSimpleName().toString()));
+
+        boolean isDebounce = watch.debounceMs() > 0;
+        scheduledMethodBuilder.addStatement("$T.$L(this, $S, $L, () -> super.$L($L))",
+            WatchScheduler.class,
+            isDebounce ? "debounce" : "throttle",
+            methodName,
+            isDebounce ? watch.debounceMs() : watch.throttleMs(),
+            methodName,
+            getSuperMethodCallParameters(method));
+
+        componentJsTypeBuilder.addMethod(scheduledMethodBuilder.build());
+        return scheduledMethodName;
+    }
+
     /**
      * Process prop validators from the Component Class.
      * @param component {@link VueComponent} to process
@@ -500,11 +851,84 @@ public class ComponentJsTypeGenerator
         optionsBuilder.addStatement("options.addHookMethod($S, $S)", "render", "vuegwt$render");
     }
 
+    /**
+     * Create the "beforeCreate" hook method. This method will be called on each Component before
+     * Vue.js initializes its data.
+     * It will inject dependencies if any, and call the {@link ComponentJavaConstructor} on the
+     * newly created instance. Field initializers are therefore run only once, before the values
+     * are read by the data function and made reactive.
+     * In a hierarchy of Components, the hook of each level is called, but only the one of the
+     * instantiated Component calls the constructor.
+     * @param component {@link VueComponent} to process
+     * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
+     * {@link VueComponentOptions}
+     * @param componentJsTypeBuilder Builder for the JsType class
+     * @param dependenciesBuilder Builder for our component dependencies, needed here to inject the
+     * dependencies in the instance
+     */
+    private void createBeforeCreateHook(TypeElement component, MethodSpec.Builder optionsBuilder,
+        Builder componentJsTypeBuilder, ComponentInjectedDependenciesBuilder dependenciesBuilder)
+    {
+        MethodSpec.Builder beforeCreateMethodBuilder =
+            MethodSpec.methodBuilder("vuegwt$beforeCreate").addModifiers(Modifier.PUBLIC);
+
+        // The beforeCreate hook of the Component runs before its Java constructor, like Vue.js
+        if (hasInterface(processingEnv, component.asType(), HasBeforeCreate.class))
+            beforeCreateMethodBuilder.addStatement("super.beforeCreate()");
+
+        // Only the instantiated Component should call the constructor, not its parents
+        beforeCreateMethodBuilder.beginControlFlow(
+            "if ($T.getJavaConstructor($T.class).prototype == this.$L.getComponentJavaPrototype())",
+            VueGWT.class,
+            componentJsTypeName(component),
+            "$options()");
+
+        injectDependencies(component, dependenciesBuilder, beforeCreateMethodBuilder);
+        callConstructor(component, beforeCreateMethodBuilder);
+
+        // Values set by the constructor on props would hide the props values
+        getPropsNames(component).forEach(propName -> beforeCreateMethodBuilder.addStatement(
+            "$T.asPropertyMap(this).delete($S)",
+            Js.class,
+            propName));
+
+        beforeCreateMethodBuilder.endControlFlow();
+
+        componentJsTypeBuilder.addMethod(beforeCreateMethodBuilder.build());
+
+        // Register the hook
+        optionsBuilder.addStatement("options.addHookMethod($S, $S)",
+            "beforeCreate",
+            "vuegwt$beforeCreate");
+    }
+
+    /**
+     * Return the name of the props of the given {@link VueComponent} and its parents.
+     * @param component {@link VueComponent} to process
+     * @return The name of the props
+     */
+    private List<String> getPropsNames(TypeElement component)
+    {
+        List<String> propsNames = ElementFilter
+            .fieldsIn(component.getEnclosedElements())
+            .stream()
+            .filter(field -> hasAnnotation(field, Prop.class))
+            .map(field -> field.getSimpleName().toString())
+            .collect(Collectors.toList());
+
+        getSuperComponentType(component).ifPresent(superComponent -> propsNames.addAll(
+            getPropsNames(superComponent)));
+
+        return propsNames;
+    }
+
     /**
      * Create the "created" hook method. This method will be called on each Component when it's
      * created.
      * It will inject dependencies if any, and call the {@link ComponentJavaConstructor} on the
      * newly created instance.
+     * This is only used for Components extending a JS Component, as calling the Java constructor
+     * calls the JS Component constructor.
      * @param component {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
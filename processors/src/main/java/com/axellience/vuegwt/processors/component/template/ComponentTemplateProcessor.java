@@ -3,6 +3,7 @@ package com.axellience.vuegwt.processors.component.template;
 import com.axellience.vuegwt.core.annotations.component.Component;
 import com.axellience.vuegwt.core.annotations.component.Computed;
 import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.annotations.component.Pure;
 import com.axellience.vuegwt.core.client.component.VueComponent;
 import com.axellience.vuegwt.processors.component.ComponentJsTypeGenerator;
 import com.axellience.vuegwt.processors.component.template.builder.TemplateMethodsBuilder;
@@ -19,7 +20,6 @@ import com.squareup.javapoet.TypeSpec.Builder;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
@@ -136,14 +136,15 @@ public class ComponentTemplateProcessor
             .methodsIn(componentTypeElement.getEnclosedElements())
             .stream()
             .filter(ComponentGeneratorsUtil::isMethodVisibleInTemplate)
-            .map(ExecutableElement::getSimpleName)
-            .map(Object::toString)
-            .forEach(methodName -> {
+            .forEach(method -> {
+                String methodName = method.getSimpleName().toString();
                 if (alreadyDoneMethods.contains(methodName))
                     return;
                 alreadyDoneMethods.add(methodName);
 
                 templateParserContext.addRootMethod(methodName);
+                if (hasAnnotation(method, Pure.class))
+                    templateParserContext.addRootPureMethod(methodName);
             });
 
         getSuperComponentType(componentTypeElement).ifPresent(superComponent -> registerFieldsAndMethodsInContext(
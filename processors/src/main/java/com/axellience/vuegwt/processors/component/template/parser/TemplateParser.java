@@ -1,6 +1,7 @@
 package com.axellience.vuegwt.processors.component.template.parser;
 
 import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.annotations.component.Pure;
 import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponent;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponentProp;
@@ -32,8 +33,10 @@ import net.htmlparser.jericho.Tag;
 
 import javax.annotation.processing.Messager;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -65,6 +68,7 @@ public class TemplateParser
     private Attribute currentAttribute;
     private LocalComponentProp currentProp;
     private TypeName currentExpressionReturnType;
+    private TemplateExpression currentTemplateExpression;
     private OutputDocument outputDocument;
 
     /**
@@ -213,6 +217,7 @@ public class TemplateParser
 
         // Iterate on element attributes
         Set<LocalComponentProp> foundProps = new HashSet<>();
+        Map<Attribute, TemplateExpression> cacheableListeners = new LinkedHashMap<>();
         for (Attribute attribute : element.getAttributes())
         {
             if ("v-for".equals(attribute.getKey()) || "v-model".equals(attribute.getKey()))
@@ -233,15 +238,100 @@ public class TemplateParser
             currentAttribute = attribute;
             currentProp = optionalProp.orElse(null);
             currentExpressionReturnType = getExpressionReturnTypeForAttribute(attribute);
+            currentTemplateExpression = null;
             String processedExpression = processExpression(attribute.getValue());
 
+            if (isCacheableListener(attribute, currentTemplateExpression))
+            {
+                cacheableListeners.put(attribute, currentTemplateExpression);
+                continue;
+            }
+
             if (attribute.getValueSegment() != null)
                 outputDocument.replace(attribute.getValueSegment(), processedExpression);
         }
 
+        processCacheableListeners(element, cacheableListeners);
+
         localComponent.ifPresent(lc -> validateRequiredProps(lc, foundProps));
     }
 
+    /**
+     * Check if the listener of an event binding can be cached.
+     * This is the case when it only depends on v-for loop variables and the event has no
+     * modifiers.
+     * @param attribute The attribute of the event binding
+     * @param templateExpression The expression created for this attribute, if any
+     * @return true if the listener can be cached, false otherwise
+     */
+    private boolean isCacheableListener(Attribute attribute, TemplateExpression templateExpression)
+    {
+        if (templateExpression == null || !isEventBinding(attribute))
+            return false;
+
+        // Modifiers are not supported with the object syntax of v-on
+        if (getEventName(attribute).contains("."))
+            return false;
+
+        List<VariableInfo> parameters = templateExpression.getParameters();
+        return !parameters.isEmpty() && parameters.size() <= 2 && parameters
+            .stream()
+            .allMatch(LocalVariableInfo.class::isInstance);
+    }
+
+    /**
+     * Replace cacheable event bindings by a v-on binding to a cached listeners object.
+     * This way we don't create a new listener for each row on each render.
+     * As an element can only have one v-on attribute, we only do this if there is one cacheable
+     * listener on the element.
+     * @param element Current element being processed
+     * @param cacheableListeners The event bindings that can be cached, with their expression
+     */
+    private void processCacheableListeners(Element element,
+        Map<Attribute, TemplateExpression> cacheableListeners)
+    {
+        boolean canUseCache =
+            cacheableListeners.size() == 1 && element.getAttributes().get("v-on") == null;
+
+        cacheableListeners.forEach((attribute, templateExpression) -> {
+            if (!canUseCache)
+            {
+                outputDocument.replace(attribute.getValueSegment(),
+                    templateExpression.toTemplateString());
+                return;
+            }
+
+            String[] parametersName = templateExpression
+                .getParameters()
+                .stream()
+                .map(VariableInfo::getName)
+                .toArray(String[]::new);
+
+            outputDocument.replace(attribute,
+                "v-on=\"vuegwt$on(_self, '"
+                    + getEventName(attribute)
+                    + "', '"
+                    + templateExpression.getId()
+                    + "', "
+                    + String.join(", ", parametersName)
+                    + ")\"");
+        });
+    }
+
+    /**
+     * Return the name of the event of an event binding, with its modifiers if any.
+     * @param attribute The attribute of the event binding
+     * @return The name of the event
+     */
+    private String getEventName(Attribute attribute)
+    {
+        String attributeName = attribute.getName();
+        if (attributeName.startsWith("@"))
+            return attributeName.substring(1);
+
+        return attributeName.substring("v-on:".length());
+    }
+
     /**
      * Return the {@link LocalComponent} definition for a given DOM {@link Element}
      * @param element Current element being processed
@@ -381,7 +471,8 @@ public class TemplateParser
         if (shouldSkipExpressionProcessing(expressionString))
             return expressionString;
 
-        return processJavaExpression(expressionString).toTemplateString();
+        currentTemplateExpression = processJavaExpression(expressionString);
+        return currentTemplateExpression.toTemplateString();
     }
 
     /**
@@ -472,10 +563,43 @@ public class TemplateParser
         expressionString = expression.toString();
 
         // Add the resulting expression to our result
-        return result.addExpression(expressionString,
+        TemplateExpression templateExpression = result.addExpression(expressionString,
             currentExpressionReturnType,
             currentProp == null,
             expressionParameters);
+
+        if (isPureExpression(expression, templateExpression))
+            templateExpression.setPure(true);
+
+        return templateExpression;
+    }
+
+    /**
+     * Check if an expression can be cached until one of the reactive properties it reads changes.
+     * This is the case when it's a call to a {@link Pure} method of the Component, that only
+     * depends on v-for loop variables.
+     * @param expression The expression to check
+     * @param templateExpression The expression created for it
+     * @return true if the expression is pure, false otherwise
+     */
+    private boolean isPureExpression(Expression expression, TemplateExpression templateExpression)
+    {
+        // Event handlers are meant to have side effects
+        if (templateExpression.isReturnVoid() || !(expression instanceof MethodCallExpr))
+            return false;
+
+        MethodCallExpr methodCall = (MethodCallExpr) expression;
+        if (methodCall.getScope().isPresent() || !context.isPureMethod(methodCall
+            .getName()
+            .getIdentifier()))
+        {
+            return false;
+        }
+
+        List<VariableInfo> parameters = templateExpression.getParameters();
+        return parameters.size() <= 2 && parameters
+            .stream()
+            .allMatch(LocalVariableInfo.class::isInstance);
     }
 
     /**
@@ -17,6 +17,7 @@ public class ContextLayer
 {
     private final Map<String, VariableInfo> variables = new HashMap<>();
     private final Set<String> methods = new HashSet<>();
+    private final Set<String> pureMethods = new HashSet<>();
 
     private <T extends VariableInfo> T addVariable(T variableInfo)
     {
@@ -58,4 +59,14 @@ public class ContextLayer
     {
         return this.methods.contains(methodName);
     }
+
+    void addPureMethod(String methodName)
+    {
+        this.pureMethods.add(methodName);
+    }
+
+    boolean isPureMethod(String methodName)
+    {
+        return this.pureMethods.contains(methodName);
+    }
 }
\ No newline at end of file
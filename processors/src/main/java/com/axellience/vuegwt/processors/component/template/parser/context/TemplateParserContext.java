@@ -92,6 +92,16 @@ public class TemplateParserContext
         this.rootLayer.addMethod(methodName);
     }
 
+    /**
+     * Register a {@link com.axellience.vuegwt.core.annotations.component.Pure} method in the
+     * root context
+     * @param methodName The name of the method
+     */
+    public void addRootPureMethod(String methodName)
+    {
+        this.rootLayer.addPureMethod(methodName);
+    }
+
     /**
      * Add a context layer. Used when entering a node with v-for.
      */
@@ -152,6 +162,17 @@ public class TemplateParserContext
         return rootLayer.hasMethod(name);
     }
 
+    /**
+     * Return whether the method with the given name is pure. A method is pure if it's annotated
+     * with {@link com.axellience.vuegwt.core.annotations.component.Pure}.
+     * @param name The name of the method
+     * @return True if it is pure, false otherwise
+     */
+    public boolean isPureMethod(String name)
+    {
+        return rootLayer.isPureMethod(name);
+    }
+
     /**
      * Add a Java Import to the context.
      * @param fullyQualifiedName The fully qualified name of the class to import
@@ -27,6 +27,7 @@ public class TemplateExpression
     private final Integer lineInHtml;
     private final TypeName type;
     private final List<VariableInfo> parameters = new LinkedList<>();
+    private boolean isPure = false;
 
     public TemplateExpression(String id, String body, TypeName type, boolean shouldCast,
         Collection<VariableInfo> parameters, Integer lineInHtml)
@@ -95,9 +96,33 @@ public class TemplateExpression
         String[] parametersName =
             this.parameters.stream().map(VariableInfo::getName).toArray(String[]::new);
 
+        if (isPure)
+        {
+            StringBuilder pureCall =
+                new StringBuilder("vuegwt$pure(_self, '").append(this.getId()).append("'");
+            for (String parameterName : parametersName)
+                pureCall.append(", ").append(parameterName);
+            return pureCall.append(")").toString();
+        }
+
         return this.getId() + "(" + String.join(", ", parametersName) + ")";
     }
 
+    /**
+     * Whether this expression is a call to a pure method. The value of pure expressions is
+     * cached until one of the reactive properties they read changes.
+     * @return true if the expression is pure, false otherwise
+     */
+    public boolean isPure()
+    {
+        return isPure;
+    }
+
+    public void setPure(boolean isPure)
+    {
+        this.isPure = isPure;
+    }
+
     public boolean isReturnVoid()
     {
         return type == TypeName.VOID;
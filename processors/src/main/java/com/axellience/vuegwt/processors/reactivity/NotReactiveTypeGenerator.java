@@ -0,0 +1,69 @@
+package com.axellience.vuegwt.processors.reactivity;
+
+import com.axellience.vuegwt.core.annotations.reactivity.NotReactive;
+import com.axellience.vuegwt.core.client.VueGWT;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.processors.utils.GeneratorsNameUtil;
+import com.axellience.vuegwt.processors.utils.GeneratorsUtil;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsType;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Types;
+
+/**
+ * Generate the class that flags a {@link NotReactive} class at runtime.
+ * The generated class is exported, and its static block flags the class prototype once Vue GWT
+ * is ready, so Vue never observes its instances, wherever they are referenced from.
+ * @author Adrien Baron
+ */
+public class NotReactiveTypeGenerator
+{
+    private final Filer filer;
+    private final Types types;
+
+    public NotReactiveTypeGenerator(ProcessingEnvironment processingEnv)
+    {
+        filer = processingEnv.getFiler();
+        types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * Generate and save the Java file for the given {@link NotReactive} class.
+     * @param type The {@link NotReactive} class to generate for
+     */
+    public void generate(TypeElement type)
+    {
+        ClassName notReactiveTypeClassName = GeneratorsNameUtil.notReactiveTypeName(type);
+        Builder notReactiveTypeBuilder = TypeSpec
+            .classBuilder(notReactiveTypeClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addJavadoc("Prevent Vue from observing instances of {@link $T}",
+                TypeName.get(types.erasure(type.asType())));
+
+        // Add @JsType annotation. This ensure this class is included and its static block run.
+        notReactiveTypeBuilder.addAnnotation(AnnotationSpec
+            .builder(JsType.class)
+            .addMember("namespace", "\"VueGWT.notReactiveTypes\"")
+            .addMember("name", "$S", type.getQualifiedName().toString().replaceAll("\\.", "_"))
+            .build());
+
+        notReactiveTypeBuilder.addStaticBlock(CodeBlock
+            .builder()
+            .addStatement("$T.onReady(() -> $T.get().markNotReactive($T.class))",
+                VueGWT.class,
+                VueGWTObserverManager.class,
+                TypeName.get(types.erasure(type.asType())))
+            .build());
+
+        GeneratorsUtil.toJavaFile(filer, notReactiveTypeBuilder, notReactiveTypeClassName, type);
+    }
+}
@@ -0,0 +1,115 @@
+package com.axellience.vuegwt.processors.reactivity;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.annotations.reactivity.Reactive;
+import com.axellience.vuegwt.core.client.VueGWT;
+import com.axellience.vuegwt.core.client.observer.ReactiveModels;
+import com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil;
+import com.axellience.vuegwt.processors.utils.GeneratorsNameUtil;
+import com.axellience.vuegwt.processors.utils.GeneratorsUtil;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsType;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.hasAnnotation;
+
+/**
+ * Generate the class that makes a {@link Reactive} model class reactive.
+ * The generated class is exported, and its static block defines the reactive properties on the
+ * model class prototype once Vue GWT is ready.
+ * @author Adrien Baron
+ */
+public class ReactiveModelGenerator
+{
+    private final Filer filer;
+    private final Messager messager;
+
+    public ReactiveModelGenerator(ProcessingEnvironment processingEnv)
+    {
+        filer = processingEnv.getFiler();
+        messager = processingEnv.getMessager();
+    }
+
+    /**
+     * Generate and save the Java file for the given {@link Reactive} class.
+     * @param model The {@link Reactive} class to generate for
+     */
+    public void generate(TypeElement model)
+    {
+        if (hasAnnotation(model, Component.class))
+        {
+            messager.printMessage(Kind.ERROR,
+                "Components are already reactive and can't be annotated with @Reactive",
+                model);
+            return;
+        }
+
+        List<String> fieldsName = ElementFilter
+            .fieldsIn(model.getEnclosedElements())
+            .stream()
+            .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+            .filter(ComponentGeneratorsUtil::isFieldVisibleInJS)
+            .filter(ComponentGeneratorsUtil::isFieldReactive)
+            .map(field -> field.getSimpleName().toString())
+            .collect(Collectors.toList());
+
+        if (fieldsName.isEmpty())
+        {
+            messager.printMessage(Kind.WARNING,
+                "No field visible in JS in this @Reactive class. Only public fields of a @JsType or fields with @JsProperty are made reactive.",
+                model);
+        }
+
+        ClassName reactiveModelClassName = GeneratorsNameUtil.reactiveModelName(model);
+        Builder reactiveModelBuilder = TypeSpec
+            .classBuilder(reactiveModelClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addJavadoc("Make the {@link $T} model class reactive", TypeName.get(model.asType()));
+
+        // Add @JsType annotation. This ensure this class is included and its static block run.
+        reactiveModelBuilder.addAnnotation(AnnotationSpec
+            .builder(JsType.class)
+            .addMember("namespace", "\"VueGWT.reactiveModels\"")
+            .addMember("name", "$S", model.getQualifiedName().toString().replaceAll("\\.", "_"))
+            .build());
+
+        String fieldNamesParameters = fieldsName
+            .stream()
+            .map(fieldName -> "\"" + fieldName + "\"")
+            .collect(Collectors.joining(", "));
+
+        CodeBlock.Builder staticBlockBuilder = CodeBlock.builder();
+        if (fieldsName.isEmpty())
+        {
+            staticBlockBuilder.addStatement("$T.onReady(() -> $T.makeReactive($T.class))",
+                VueGWT.class,
+                ReactiveModels.class,
+                TypeName.get(model.asType()));
+        }
+        else
+        {
+            staticBlockBuilder.addStatement("$T.onReady(() -> $T.makeReactive($T.class, $L))",
+                VueGWT.class,
+                ReactiveModels.class,
+                TypeName.get(model.asType()),
+                fieldNamesParameters);
+        }
+        reactiveModelBuilder.addStaticBlock(staticBlockBuilder.build());
+
+        GeneratorsUtil.toJavaFile(filer, reactiveModelBuilder, reactiveModelClassName, model);
+    }
+}
@@ -2,9 +2,11 @@ package com.axellience.vuegwt.processors.utils;
 
 import com.axellience.vuegwt.core.annotations.component.Component;
 import com.axellience.vuegwt.core.annotations.component.Computed;
+import com.axellience.vuegwt.core.annotations.component.JsComponent;
 import com.axellience.vuegwt.core.annotations.component.PropDefault;
 import com.axellience.vuegwt.core.annotations.component.PropValidator;
 import com.axellience.vuegwt.core.annotations.component.Watch;
+import com.axellience.vuegwt.core.annotations.reactivity.NotReactive;
 import com.axellience.vuegwt.core.client.component.VueComponent;
 import com.axellience.vuegwt.core.client.component.hooks.HasRender;
 import com.axellience.vuegwt.core.client.component.options.CustomizeOptions;
@@ -12,6 +14,9 @@ import com.axellience.vuegwt.core.client.vue.VueFactory;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.Trees;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
@@ -171,6 +176,50 @@ public class ComponentGeneratorsUtil
             .contains(Modifier.PUBLIC)) || hasAnnotation(field, JsProperty.class);
     }
 
+    /**
+     * Return whether a given field has an initializer in its declaration.
+     * This uses the javac Trees API. With other compilers, this always returns false.
+     * @param processingEnv The processing environment of the compiler
+     * @param field The field to check
+     * @return true if the field has an initializer, false otherwise or if we can't know
+     */
+    public static boolean hasInitializer(ProcessingEnvironment processingEnv,
+        VariableElement field)
+    {
+        Trees trees;
+        try
+        {
+            trees = Trees.instance(processingEnv);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Not running in javac
+            return false;
+        }
+
+        Tree fieldTree = trees.getTree(field);
+        if (!(fieldTree instanceof VariableTree))
+            return false;
+
+        return ((VariableTree) fieldTree).getInitializer() != null;
+    }
+
+    /**
+     * Return whether a given field should be observed by Vue.
+     * It won't be the case if it has the {@link NotReactive} annotation, or if its type has it.
+     * @param field The field to check
+     * @return true if it should be reactive, false otherwise
+     */
+    public static boolean isFieldReactive(VariableElement field)
+    {
+        if (hasAnnotation(field, NotReactive.class))
+            return false;
+
+        TypeMirror fieldType = field.asType();
+        return fieldType.getKind() != TypeKind.DECLARED || !hasAnnotation(((DeclaredType) fieldType)
+            .asElement(), NotReactive.class);
+    }
+
     /**
      * Return weather a given method is visible in JS (JsInterop).
      * It will be the case if it's public and it's class/interface has the {@link JsType}
@@ -215,6 +264,26 @@ public class ComponentGeneratorsUtil
             .orElse(0);
     }
 
+    /**
+     * Return whether a given {@link VueComponent} extends a JS Component, directly or through its
+     * parents.
+     * @param component The {@link VueComponent} to check
+     * @return true if one of its parents is a JS Component, false otherwise
+     */
+    public static boolean isExtendingJsComponent(TypeElement component)
+    {
+        return getSuperComponentType(component).map(superComponent -> {
+            JsType jsType = superComponent.getAnnotation(JsType.class);
+            if (hasAnnotation(superComponent, JsComponent.class) || (jsType != null
+                && jsType.isNative()))
+            {
+                return true;
+            }
+
+            return isExtendingJsComponent(superComponent);
+        }).orElse(false);
+    }
+
     /**
      * Check if the given Component has a Template.
      * It doesn't have a template if the class is abstract, if it implements render function
@@ -27,6 +27,10 @@ public class GeneratorsNameUtil
 
     private static String DIRECTIVE_OPTIONS_SUFFIX = "Options";
 
+    private static String REACTIVE_MODEL_SUFFIX = "ReactiveModel";
+
+    private static String NOT_REACTIVE_TYPE_SUFFIX = "NotReactiveType";
+
     public static ClassName componentJsTypeName(TypeElement component)
     {
         return nameWithSuffix(component, COMPONENT_JS_TYPE_SUFFIX);
@@ -77,6 +81,16 @@ public class GeneratorsNameUtil
         return nameWithSuffix(directive, DIRECTIVE_OPTIONS_SUFFIX);
     }
 
+    public static ClassName reactiveModelName(TypeElement model)
+    {
+        return nameWithSuffix(model, REACTIVE_MODEL_SUFFIX);
+    }
+
+    public static ClassName notReactiveTypeName(TypeElement type)
+    {
+        return nameWithSuffix(type, NOT_REACTIVE_TYPE_SUFFIX);
+    }
+
     public static ClassName nameWithSuffix(TypeElement type, String suffix)
     {
         return nameWithSuffix(type.getQualifiedName().toString(), suffix);
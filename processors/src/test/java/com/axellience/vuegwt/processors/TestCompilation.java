@@ -0,0 +1,175 @@
+package com.axellience.vuegwt.processors;
+
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Run the {@link VueGwtProcessor} on Java sources in tests.
+ * Sources are compiled with the test classpath, templates are put in the class output where the
+ * processor looks for them. Only annotation processing is done, generated sources are not
+ * compiled.
+ * @author Adrien Baron
+ */
+public class TestCompilation
+{
+    private final Path classOutput;
+    private final Path sourceOutput;
+    private final List<JavaFileObject> sources = new ArrayList<>();
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+
+    public TestCompilation()
+    {
+        try
+        {
+            classOutput = Files.createTempDirectory("vuegwt-classes");
+            sourceOutput = Files.createTempDirectory("vuegwt-generated");
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Add a Java source to compile.
+     * @param qualifiedName The qualified name of the class in the source
+     * @param lines The lines of the source
+     * @return This compilation
+     */
+    public TestCompilation addSource(String qualifiedName, String... lines)
+    {
+        URI uri = URI.create("string:///" + qualifiedName.replace('.', '/') + ".java");
+        String content = String.join("\n", lines);
+        sources.add(new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE)
+        {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors)
+            {
+                return content;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Add the HTML template of a Component.
+     * @param componentQualifiedName The qualified name of the Component
+     * @param lines The lines of the template
+     * @return This compilation
+     */
+    public TestCompilation addTemplate(String componentQualifiedName, String... lines)
+    {
+        Path template = classOutput.resolve(componentQualifiedName.replace('.', '/') + ".html");
+        try
+        {
+            Files.createDirectories(template.getParent());
+            Files.write(template, Arrays.asList(lines), StandardCharsets.UTF_8);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Run the annotation processor on the added sources.
+     * @return This compilation
+     */
+    public TestCompilation compile()
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+            compiler.getStandardFileManager(collector, Locale.ROOT, StandardCharsets.UTF_8))
+        {
+            List<String> options = Arrays.asList("-proc:only",
+                "-d",
+                classOutput.toString(),
+                "-s",
+                sourceOutput.toString());
+
+            JavaCompiler.CompilationTask task =
+                compiler.getTask(null, fileManager, collector, options, null, sources);
+            task.setProcessors(Arrays.asList(new VueGwtProcessor()));
+            task.call();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        diagnostics.addAll(collector.getDiagnostics());
+        return this;
+    }
+
+    /**
+     * @return The messages of the errors reported during the compilation
+     */
+    public List<String> getErrors()
+    {
+        return getMessages(Kind.ERROR);
+    }
+
+    /**
+     * @return The messages of the warnings reported during the compilation
+     */
+    public List<String> getWarnings()
+    {
+        return getMessages(Kind.WARNING);
+    }
+
+    /**
+     * Return whether an error containing the given text was reported.
+     * @param text The text to look for
+     * @return true if an error contains the text, false otherwise
+     */
+    public boolean hasErrorContaining(String text)
+    {
+        return getErrors().stream().anyMatch(error -> error.contains(text));
+    }
+
+    /**
+     * Return the content of a source generated by the processor.
+     * @param qualifiedName The qualified name of the generated class
+     * @return The generated source
+     */
+    public String getGeneratedSource(String qualifiedName)
+    {
+        Path source = sourceOutput.resolve(qualifiedName.replace('.', '/') + ".java");
+        try
+        {
+            return new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> getMessages(Kind kind)
+    {
+        return diagnostics
+            .stream()
+            .filter(diagnostic -> diagnostic.getKind() == kind)
+            .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package com.axellience.vuegwt.processors.component;
+
+import com.axellience.vuegwt.processors.TestCompilation;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Adrien Baron
+ */
+public class ComponentConstructorValidatorTest
+{
+    private static final String COMPONENT = "test.InitComponent";
+
+    @Test
+    public void rejectsPropsInConstructors()
+    {
+        TestCompilation compilation = compileComponent("public InitComponent() {",
+            "    copy = label;",
+            "}");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("\"label\" is annotated with @Prop"));
+    }
+
+    @Test
+    public void rejectsComputedInFieldInitializers()
+    {
+        TestCompilation compilation =
+            compileComponent("@JsProperty String upperCopy = getUpperLabel();");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("\"getUpperLabel\" is annotated with @Computed"));
+    }
+
+    @Test
+    public void rejectsPropsInInitializerBlocks()
+    {
+        TestCompilation compilation = compileComponent("{", "    copy = this.label;", "}");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("\"label\" is annotated with @Prop"));
+    }
+
+    @Test
+    public void acceptsPropsInLambdasAndHooks()
+    {
+        TestCompilation compilation = compileComponent("public InitComponent() {",
+            "    Runnable copyLabel = () -> copy = label;",
+            "}",
+            "@Override",
+            "public void created() {",
+            "    copy = label;",
+            "}");
+
+        assertEquals(compilation.getErrors().toString(), 0, compilation.getErrors().size());
+    }
+
+    private TestCompilation compileComponent(String... members)
+    {
+        String[] header = {
+            "package test;",
+            "import com.axellience.vuegwt.core.annotations.component.Component;",
+            "import com.axellience.vuegwt.core.annotations.component.Computed;",
+            "import com.axellience.vuegwt.core.annotations.component.Prop;",
+            "import com.axellience.vuegwt.core.client.component.VueComponent;",
+            "import com.axellience.vuegwt.core.client.component.hooks.HasCreated;",
+            "import jsinterop.annotations.JsProperty;",
+            "@Component(hasTemplate = false)",
+            "public class InitComponent extends VueComponent implements HasCreated {",
+            "    @Prop @JsProperty String label;",
+            "    @JsProperty String copy;",
+            "    @Computed public String getUpperLabel() { return label.toUpperCase(); }"
+        };
+        String[] source = new String[header.length + members.length + 1];
+        System.arraycopy(header, 0, source, 0, header.length);
+        System.arraycopy(members, 0, source, header.length, members.length);
+        source[source.length - 1] = "}";
+
+        return new TestCompilation().addSource(COMPONENT, source).compile();
+    }
+}
@@ -0,0 +1,137 @@
+package com.axellience.vuegwt.processors.component;
+
+import com.axellience.vuegwt.processors.TestCompilation;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Adrien Baron
+ */
+public class ComponentJsTypeGeneratorTest
+{
+    private static final String COMPONENT = "test.TestComponent";
+
+    @Test
+    public void rejectsPropInitializers()
+    {
+        TestCompilation compilation =
+            compileComponent("@Prop @JsProperty String label = \"default\";");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining(
+                "The field \"label\" annotated with @Prop can't have an initializer"));
+    }
+
+    @Test
+    public void acceptsPropsWithoutInitializer()
+    {
+        TestCompilation compilation = compileComponent("@Prop @JsProperty String label;",
+            "@JsProperty String title = \"title\";");
+
+        assertEquals(compilation.getErrors().toString(), 0, compilation.getErrors().size());
+    }
+
+    @Test
+    public void acceptsWatchedFieldsComputedAndNestedProperties()
+    {
+        TestCompilation compilation = compileComponent("@JsProperty String label;",
+            "@JsProperty Filter filter;",
+            "@Computed String getUpperLabel() { return label.toUpperCase(); }",
+            "@Watch(\"label\") void onLabel(String value) { }",
+            "@Watch(\"upperLabel\") void onUpperLabel(String value) { }",
+            "@Watch(\"filter.text\") void onFilterText(String value) { }",
+            "@Watch(\"filter.jsName\") void onFilterJsName(String value) { }",
+            "@Watch(\"$route\") void onRoute(Object value) { }");
+
+        assertEquals(compilation.getErrors().toString(), 0, compilation.getErrors().size());
+    }
+
+    @Test
+    public void rejectsUnknownWatchedProperties()
+    {
+        TestCompilation compilation = compileComponent("@JsProperty Filter filter;",
+            "@Watch(\"missing\") void onMissing(String value) { }",
+            "@Watch(\"filter.javaName\") void onJavaName(String value) { }");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("Couldn't find the property \"missing\""));
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("Couldn't find the property \"javaName\""));
+    }
+
+    @Test
+    public void rejectsWatchedPropertiesNotVisibleInJS()
+    {
+        TestCompilation compilation = compileComponent("@JsProperty Filter filter;",
+            "@Watch(\"filter.javaOnly\") void onJavaOnly(String value) { }");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("The property \"javaOnly\" in \"filter.javaOnly\""));
+    }
+
+    @Test
+    public void rejectsWatchersWithDebounceAndThrottle()
+    {
+        TestCompilation compilation = compileComponent("@JsProperty String label;",
+            "@Watch(value = \"label\", debounceMs = 100, throttleMs = 100)",
+            "void onLabel(String value) { }");
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("can't have both a debounce and a throttle"));
+    }
+
+    @Test
+    public void registersDelayedAndImmediateWatchers()
+    {
+        TestCompilation compilation = compileComponent("@JsProperty String label;",
+            "@Watch(value = \"label\", debounceMs = 200) void onDebounced(String value) { }",
+            "@Watch(value = \"label\", throttleMs = 50) void onThrottled(String value) { }",
+            "@Watch(value = \"label\", isImmediate = true) void onImmediate(String value) { }");
+
+        assertEquals(compilation.getErrors().toString(), 0, compilation.getErrors().size());
+        String generated = compilation.getGeneratedSource("test.TestComponentJsType");
+        assertTrue(generated, generated.contains(
+            "options.addJavaWatch(\"vuegwt$watch$onDebounced\", \"label\", false);"));
+        assertTrue(generated, generated.contains("WatchScheduler.debounce(this, \"onDebounced\", "
+            + "200, () -> super.onDebounced(value));"));
+        assertTrue(generated, generated.contains(
+            "options.addJavaWatch(\"vuegwt$watch$onThrottled\", \"label\", false);"));
+        assertTrue(generated, generated.contains("WatchScheduler.throttle(this, \"onThrottled\", "
+            + "50, () -> super.onThrottled(value));"));
+        assertTrue(generated, generated.contains(
+            "options.addJavaWatch(\"onImmediate\", \"label\", false, true);"));
+    }
+
+    private TestCompilation compileComponent(String... members)
+    {
+        String[] header = {
+            "package test;",
+            "import com.axellience.vuegwt.core.annotations.component.Component;",
+            "import com.axellience.vuegwt.core.annotations.component.Computed;",
+            "import com.axellience.vuegwt.core.annotations.component.Prop;",
+            "import com.axellience.vuegwt.core.annotations.component.Watch;",
+            "import com.axellience.vuegwt.core.client.component.VueComponent;",
+            "import jsinterop.annotations.JsProperty;",
+            "@Component(hasTemplate = false)",
+            "public class TestComponent extends VueComponent {"
+        };
+        String[] source = new String[header.length + members.length + 1];
+        System.arraycopy(header, 0, source, 0, header.length);
+        System.arraycopy(members, 0, source, header.length, members.length);
+        source[source.length - 1] = "}";
+
+        return new TestCompilation()
+            .addSource("test.Filter",
+                "package test;",
+                "import jsinterop.annotations.JsProperty;",
+                "public class Filter {",
+                "    @JsProperty String text;",
+                "    @JsProperty(name = \"jsName\") String javaName;",
+                "    String javaOnly;",
+                "}")
+            .addSource(COMPONENT, source)
+            .compile();
+    }
+}
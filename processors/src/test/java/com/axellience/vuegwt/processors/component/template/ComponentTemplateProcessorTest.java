@@ -0,0 +1,83 @@
+package com.axellience.vuegwt.processors.component.template;
+
+import com.axellience.vuegwt.processors.TestCompilation;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Adrien Baron
+ */
+public class ComponentTemplateProcessorTest
+{
+    private static final String PURE_CALL = "vuegwt$pure(_self, '";
+
+    @Test
+    public void cachesCallsToPureMethods()
+    {
+        String generated = compilePureComponent("<div>",
+            "    <span v-for=\"String item in items\">{{ format(item) }}</span>",
+            "</div>");
+
+        assertEquals(generated, 1, countPureCalls(generated));
+    }
+
+    @Test
+    public void cachesCallsWithUpToTwoLoopVariables()
+    {
+        String generated = compilePureComponent("<div>",
+            "    <div v-for=\"String item in items\">",
+            "        <span v-for=\"String other in items\">{{ join(item, other) }}</span>",
+            "    </div>",
+            "</div>");
+
+        assertEquals(generated, 1, countPureCalls(generated));
+    }
+
+    @Test
+    public void doesntCacheOtherExpressions()
+    {
+        String generated = compilePureComponent("<div>",
+            "    <span v-for=\"String item in items\">{{ plain(item) }}</span>",
+            "    <span>{{ format(label) }}</span>",
+            "    <span v-for=\"String item in items\">{{ format(item) + label }}</span>",
+            "    <button v-for=\"String item in items\" @click=\"log(item)\">Log</button>",
+            "</div>");
+
+        assertEquals(generated, 0, countPureCalls(generated));
+    }
+
+    private String compilePureComponent(String... template)
+    {
+        TestCompilation compilation = new TestCompilation()
+            .addSource("test.PureComponent",
+                "package test;",
+                "import com.axellience.vuegwt.core.annotations.component.Component;",
+                "import com.axellience.vuegwt.core.annotations.component.Pure;",
+                "import com.axellience.vuegwt.core.client.component.VueComponent;",
+                "import elemental2.core.JsArray;",
+                "import jsinterop.annotations.JsMethod;",
+                "import jsinterop.annotations.JsProperty;",
+                "@Component",
+                "public class PureComponent extends VueComponent {",
+                "    @JsProperty JsArray<String> items;",
+                "    @JsProperty String label;",
+                "    @Pure @JsMethod String format(String item) { return item + label; }",
+                "    @Pure @JsMethod String join(String a, String b) { return a + b; }",
+                "    @Pure @JsMethod void log(String item) { }",
+                "    @JsMethod String plain(String item) { return item; }",
+                "}")
+            .addTemplate("test.PureComponent", template)
+            .compile();
+
+        assertEquals(compilation.getErrors().toString(), 0, compilation.getErrors().size());
+        return compilation.getGeneratedSource("test.PureComponentJsType");
+    }
+
+    private int countPureCalls(String generated)
+    {
+        return generated.split(Pattern.quote(PURE_CALL), -1).length - 1;
+    }
+}
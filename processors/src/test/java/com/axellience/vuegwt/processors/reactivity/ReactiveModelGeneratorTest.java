@@ -0,0 +1,74 @@
+package com.axellience.vuegwt.processors.reactivity;
+
+import com.axellience.vuegwt.processors.TestCompilation;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Adrien Baron
+ */
+public class ReactiveModelGeneratorTest
+{
+    @Test
+    public void makesFieldsVisibleInJSReactive()
+    {
+        TestCompilation compilation = new TestCompilation().addSource("test.Todo",
+            "package test;",
+            "import com.axellience.vuegwt.core.annotations.reactivity.NotReactive;",
+            "import com.axellience.vuegwt.core.annotations.reactivity.Reactive;",
+            "import jsinterop.annotations.JsProperty;",
+            "@Reactive",
+            "public class Todo {",
+            "    @JsProperty String text;",
+            "    @JsProperty boolean done;",
+            "    @JsProperty static int count;",
+            "    @NotReactive @JsProperty String cache;",
+            "    String javaOnly;",
+            "}").compile();
+
+        assertEquals(compilation.getErrors().toString(), 0, compilation.getErrors().size());
+        String generated = compilation.getGeneratedSource("test.TodoReactiveModel");
+        assertTrue(generated,
+            generated.contains("VueGWT.onReady(() -> "
+                + "ReactiveModels.makeReactive(Todo.class, \"text\", \"done\"));"));
+    }
+
+    @Test
+    public void warnsWhenNoFieldIsVisibleInJS()
+    {
+        TestCompilation compilation = new TestCompilation().addSource("test.Empty",
+            "package test;",
+            "import com.axellience.vuegwt.core.annotations.reactivity.Reactive;",
+            "@Reactive",
+            "public class Empty {",
+            "    String javaOnly;",
+            "}").compile();
+
+        assertTrue(compilation.getWarnings().toString(), compilation
+            .getWarnings()
+            .stream()
+            .anyMatch(warning -> warning.startsWith("No field visible in JS")));
+        String generated = compilation.getGeneratedSource("test.EmptyReactiveModel");
+        assertTrue(generated,
+            generated.contains("VueGWT.onReady(() -> ReactiveModels.makeReactive(Empty.class));"));
+    }
+
+    @Test
+    public void rejectsReactiveComponents()
+    {
+        TestCompilation compilation = new TestCompilation().addSource("test.ReactiveComponent",
+            "package test;",
+            "import com.axellience.vuegwt.core.annotations.component.Component;",
+            "import com.axellience.vuegwt.core.annotations.reactivity.Reactive;",
+            "import com.axellience.vuegwt.core.client.component.VueComponent;",
+            "@Reactive",
+            "@Component(hasTemplate = false)",
+            "public class ReactiveComponent extends VueComponent {",
+            "}").compile();
+
+        assertTrue(compilation.getErrors().toString(),
+            compilation.hasErrorContaining("Components are already reactive"));
+    }
+}